@@ -21,6 +21,7 @@ package com.michelin.kafkactl.client;
 import com.michelin.kafkactl.model.ApiResource;
 import com.michelin.kafkactl.model.Resource;
 import com.michelin.kafkactl.model.ServerInfo;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Delete;
@@ -33,6 +34,7 @@ import io.micronaut.http.client.exceptions.ReadTimeoutException;
 import io.micronaut.retry.annotation.Retryable;
 import java.util.List;
 import java.util.Map;
+import org.reactivestreams.Publisher;
 
 /** Cluster resource client. */
 @Client("${kafkactl.api}")
@@ -77,6 +79,17 @@ public interface ClusterResourceClient {
     @Get("/api-resources")
     List<ApiResource> listResourceDefinitions(@Header("Authorization") String token);
 
+    /**
+     * List all resources kinds, unless they did not change since the given entity tag.
+     *
+     * @param token The auth token
+     * @param etag The entity tag of the known resources kinds, if any
+     * @return The list of resources kinds, or a not modified response
+     */
+    @Get("/api-resources")
+    HttpResponse<List<ApiResource>> listResourceDefinitionsIfNoneMatch(
+            @Header("Authorization") String token, @Nullable @Header("If-None-Match") String etag);
+
     /**
      * Delete a given resource.
      *
@@ -114,6 +127,34 @@ public interface ClusterResourceClient {
     @Get("/api/{kind}{?search*}")
     List<Resource> list(@Header("Authorization") String token, String kind, @QueryValue Map<String, String> search);
 
+    /**
+     * List all resources, unless they did not change since the given entity tag.
+     *
+     * @param token The auth token
+     * @param kind The kind of resource
+     * @param search The query parameters mapping
+     * @param etag The entity tag of the last listing, or null
+     * @return The list of resources, or a "not modified" response
+     */
+    @Get("/api/{kind}{?search*}")
+    HttpResponse<List<Resource>> listIfChanged(
+            @Header("Authorization") String token,
+            String kind,
+            @QueryValue Map<String, String> search,
+            @Nullable @Header("If-None-Match") String etag);
+
+    /**
+     * List all resources, decoded one by one as the response body is read.
+     *
+     * @param token The auth token
+     * @param kind The kind of resource
+     * @param search The query parameters mapping
+     * @return The resources
+     */
+    @Get("/api/{kind}{?search*}")
+    Publisher<Resource> stream(
+            @Header("Authorization") String token, String kind, @QueryValue Map<String, String> search);
+
     /**
      * Get a resource.
      *
@@ -34,6 +34,7 @@ import io.micronaut.http.client.exceptions.ReadTimeoutException;
 import io.micronaut.retry.annotation.Retryable;
 import java.util.List;
 import java.util.Map;
+import org.reactivestreams.Publisher;
 
 /** Namespaced resource client. */
 @Client("${kafkactl.api}/api/namespaces/")
@@ -88,6 +89,37 @@ public interface NamespacedResourceClient {
     List<Resource> list(
             String namespace, String kind, @Nullable @QueryValue String name, @Header("Authorization") String token);
 
+    /**
+     * List all resources, unless they did not change since the given entity tag.
+     *
+     * @param namespace The namespace
+     * @param kind The kind of resource
+     * @param name The name of the resource
+     * @param token The auth token
+     * @param etag The entity tag of the last listing, or null
+     * @return The list of resources, or a "not modified" response
+     */
+    @Get("{namespace}/{kind}{?name}")
+    HttpResponse<List<Resource>> listIfChanged(
+            String namespace,
+            String kind,
+            @Nullable @QueryValue String name,
+            @Header("Authorization") String token,
+            @Nullable @Header("If-None-Match") String etag);
+
+    /**
+     * List all resources, decoded one by one as the response body is read.
+     *
+     * @param namespace The namespace
+     * @param kind The kind of resource
+     * @param name The name of the resource
+     * @param token The auth token
+     * @return The resources
+     */
+    @Get("{namespace}/{kind}{?name}")
+    Publisher<Resource> stream(
+            String namespace, String kind, @Nullable @QueryValue String name, @Header("Authorization") String token);
+
     /**
      * Get a resource.
      *
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.client;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.annotation.ReflectiveAccess;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.StreamingHttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.uri.UriBuilder;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.net.URI;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+
+/**
+ * Resource listing client, reading the raw bytes of the response body as they are received.
+ *
+ * <p>A declarative client decodes the elements of a JSON body returning a publisher, so the listings are requested
+ * through the data stream of the streaming client instead.
+ */
+@Singleton
+public class ResourceStreamClient {
+    @Inject
+    @ReflectiveAccess
+    @Client("${kafkactl.api}")
+    private StreamingHttpClient httpClient;
+
+    /**
+     * List all resources of a namespace, as the raw bytes of the response body.
+     *
+     * @param namespace The namespace
+     * @param kind The kind of resource
+     * @param name The name of the resource
+     * @param token The auth token
+     * @return The chunks of the JSON array of resources
+     */
+    public Publisher<byte[]> streamBytes(String namespace, String kind, @Nullable String name, String token) {
+        UriBuilder uri = UriBuilder.of("/api/namespaces").path(namespace).path(kind);
+        if (name != null) {
+            uri.queryParam("name", name);
+        }
+        return dataStream(uri.build(), token);
+    }
+
+    /**
+     * List all non-namespaced resources, as the raw bytes of the response body.
+     *
+     * @param token The auth token
+     * @param kind The kind of resource
+     * @param search The query parameters mapping
+     * @return The chunks of the JSON array of resources
+     */
+    public Publisher<byte[]> streamBytes(String token, String kind, Map<String, String> search) {
+        UriBuilder uri = UriBuilder.of("/api").path(kind);
+        search.forEach((key, value) -> uri.queryParam(key, value));
+        return dataStream(uri.build(), token);
+    }
+
+    /**
+     * Send a listing request and read its body as a data stream. An error status is raised as a client response
+     * exception by the publisher.
+     *
+     * @param uri The URI, relative to the API
+     * @param token The auth token
+     * @return The chunks of the response body
+     */
+    private Publisher<byte[]> dataStream(URI uri, String token) {
+        HttpRequest<?> request = HttpRequest.GET(uri.toString())
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .accept(MediaType.APPLICATION_JSON_TYPE);
+        // The buffers are released by the client once emitted, so they are copied right away
+        return Publishers.map(httpClient.dataStream(request), buffer -> buffer.toByteArray());
+    }
+}
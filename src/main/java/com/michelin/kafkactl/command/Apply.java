@@ -18,20 +18,31 @@
  */
 package com.michelin.kafkactl.command;
 
+import static com.michelin.kafkactl.service.ResourceService.SCHEMA;
+
 import com.michelin.kafkactl.hook.DryRunHook;
+import com.michelin.kafkactl.mixin.ParallelismMixin;
 import com.michelin.kafkactl.model.ApiResource;
 import com.michelin.kafkactl.model.Resource;
 import com.michelin.kafkactl.service.FormatService;
+import com.michelin.kafkactl.service.JournalService;
 import com.michelin.kafkactl.service.ResourceService;
+import com.michelin.kafkactl.util.ParallelExecutor;
 import io.micronaut.core.annotation.ReflectiveAccess;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import jakarta.inject.Inject;
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.ParameterException;
 
@@ -55,6 +66,10 @@ public class Apply extends DryRunHook {
     @ReflectiveAccess
     private ResourceService resourceService;
 
+    @Inject
+    @ReflectiveAccess
+    private JournalService journalService;
+
     @Option(
             names = {"-f", "--file"},
             description = "YAML file or directory containing resources to apply.")
@@ -65,6 +80,24 @@ public class Apply extends DryRunHook {
             description = "Search file recursively.")
     public boolean recursive;
 
+    @Option(
+            names = {"--only-changed"},
+            description = "Skip resources unchanged since their last successful apply.")
+    public boolean onlyChanged;
+
+    @Option(
+            names = {"--force-all"},
+            description = "Apply all resources, even unchanged ones, and record them as applied.")
+    public boolean forceAll;
+
+    @Option(
+            names = {"--prefetch"},
+            description = "List the live resources of each kind once, and only apply the ones that differ.")
+    public boolean prefetch;
+
+    @Mixin
+    public ParallelismMixin parallelismMixin;
+
     /**
      * Run the "apply" command.
      *
@@ -91,18 +124,116 @@ public class Apply extends DryRunHook {
         }
     }
 
+    /**
+     * Apply the resources phase by phase. The resources of a phase are applied concurrently, up to the parallelism.
+     *
+     * <p>With a journal, resources whose hash matches their last successful apply are skipped, and the journal is
+     * updated with the result of each apply. With a prefetch, resources matching their live version are skipped.
+     *
+     * @param resources The prepared resources
+     * @param namespace The namespace
+     * @return The command return code
+     */
     private int applyResources(List<Resource> resources, String namespace) {
-        int errorCount = resources.stream()
-                .mapToInt(resource -> applyResource(namespace, resource))
-                .sum();
+        boolean useJournal = onlyChanged || forceAll;
+        Map<String, String> journal = useJournal ? journalService.readJournal(namespace) : new HashMap<>();
+        Map<String, Map<String, Resource>> liveResources =
+                prefetch && !forceAll ? prefetchLiveResources(resources, namespace) : Map.of();
+
+        int errorCount = 0;
+        for (List<Resource> phase : ResourceService.groupByPhase(resources)) {
+            List<String> hashes = useJournal
+                    ? phase.stream().map(JournalService::hash).toList()
+                    : Collections.<String>nCopies(phase.size(), null);
+
+            List<Boolean> results = ParallelExecutor.map(
+                    IntStream.range(0, phase.size()).boxed().toList(),
+                    parallelismMixin.parallelism,
+                    commandSpec,
+                    (index, spec) -> applyResource(
+                            namespace, phase.get(index), hashes.get(index), journal, liveResources, spec));
+
+            for (int i = 0; i < phase.size(); i++) {
+                if (Boolean.TRUE.equals(results.get(i))) {
+                    journal.put(JournalService.key(phase.get(i)), hashes.get(i));
+                } else {
+                    journal.remove(JournalService.key(phase.get(i)));
+                    errorCount++;
+                }
+            }
+        }
+
+        if (useJournal && !dryRun) {
+            try {
+                journalService.writeJournal(namespace, journal);
+            } catch (IOException e) {
+                commandSpec.commandLine().getErr().println("Cannot write the apply journal: " + e.getMessage() + ".");
+            }
+        }
+
         return errorCount > 0 ? 1 : 0;
     }
 
-    private int applyResource(String namespace, Resource resource) {
+    /**
+     * List the live resources of each kind to apply, once per kind. Schemas and non-namespaced kinds are not listed,
+     * as well as kinds that cannot be listed, so their resources are always applied.
+     *
+     * @param resources The resources to apply
+     * @param namespace The namespace
+     * @return The live resources by kind and name
+     */
+    private Map<String, Map<String, Resource>> prefetchLiveResources(List<Resource> resources, String namespace) {
+        List<ApiResource> apiResources = resources.stream()
+                .map(Resource::getKind)
+                .filter(kind -> !SCHEMA.equals(kind))
+                .distinct()
+                .map(kind -> apiResourcesService.getResourceDefinitionByKind(kind))
+                .flatMap(Optional::stream)
+                .filter(ApiResource::isNamespaced)
+                .toList();
+
+        List<Map<String, Resource>> liveResources =
+                ParallelExecutor.map(apiResources, parallelismMixin.parallelism, commandSpec, (apiResource, spec) -> {
+                    try {
+                        return resourceService.listResourcesByName(apiResource, namespace);
+                    } catch (HttpClientResponseException e) {
+                        return Map.of();
+                    }
+                });
+
+        Map<String, Map<String, Resource>> liveResourcesByKind = new HashMap<>();
+        for (int i = 0; i < apiResources.size(); i++) {
+            liveResourcesByKind.put(apiResources.get(i).getKind(), liveResources.get(i));
+        }
+        return liveResourcesByKind;
+    }
+
+    private boolean applyResource(
+            String namespace,
+            Resource resource,
+            String hash,
+            Map<String, String> journal,
+            Map<String, Map<String, Resource>> liveResources,
+            CommandSpec spec) {
+        boolean unchangedInJournal =
+                onlyChanged && !forceAll && hash != null && hash.equals(journal.get(JournalService.key(resource)));
+        boolean unchangedOnServer = liveResources.containsKey(resource.getKind())
+                && ResourceService.isUnchanged(
+                        resource,
+                        liveResources.get(resource.getKind()).get(resource.getMetadata().getName()));
+
+        if (unchangedInJournal || unchangedOnServer) {
+            spec.commandLine()
+                    .getOut()
+                    .println(formatService.prettifyKind(resource.getKind()) + " \""
+                            + resource.getMetadata().getName() + "\" unchanged.");
+            return true;
+        }
+
         ApiResource apiResource = apiResourcesService
                 .getResourceDefinitionByKind(resource.getKind())
                 .orElseThrow();
-        HttpResponse<Resource> httpRes = resourceService.apply(apiResource, namespace, resource, dryRun, commandSpec);
-        return (httpRes != null ? 0 : 1);
+        HttpResponse<Resource> httpRes = resourceService.apply(apiResource, namespace, resource, dryRun, spec);
+        return httpRes != null;
     }
 }
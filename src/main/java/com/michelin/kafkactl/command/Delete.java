@@ -19,12 +19,15 @@
 package com.michelin.kafkactl.command;
 
 import com.michelin.kafkactl.hook.DryRunHook;
+import com.michelin.kafkactl.mixin.ParallelismMixin;
 import com.michelin.kafkactl.model.ApiResource;
+import com.michelin.kafkactl.model.LabelSelector;
 import com.michelin.kafkactl.model.Resource;
 import com.michelin.kafkactl.model.request.DeleteResourceRequest;
 import com.michelin.kafkactl.service.FileService;
 import com.michelin.kafkactl.service.FormatService;
 import com.michelin.kafkactl.service.ResourceService;
+import com.michelin.kafkactl.util.ParallelExecutor;
 import io.micronaut.core.annotation.ReflectiveAccess;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import jakarta.inject.Inject;
@@ -34,6 +37,8 @@ import java.util.Map;
 import java.util.Optional;
 import picocli.CommandLine.ArgGroup;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.ParameterException;
 import picocli.CommandLine.Parameters;
@@ -77,6 +82,9 @@ public class Delete extends DryRunHook {
             description = "Cascade delete related connectors from Ns4Kafka. Only for connect cluster.")
     public boolean cascade;
 
+    @Mixin
+    public ParallelismMixin parallelismMixin;
+
     /**
      * Run the "delete" command.
      *
@@ -84,52 +92,53 @@ public class Delete extends DryRunHook {
      */
     @Override
     public Integer onAuthSuccess() {
-        if (config.nameConfig != null
-                && !config.nameConfig.confirmed
-                && !dryRun
-                && (config.nameConfig.resourceName.contains("*") || config.nameConfig.resourceName.contains("?"))) {
-            commandSpec
-                    .commandLine()
-                    .getOut()
-                    .println("You are about to potentially delete multiple resources "
-                            + "with wildcard \"" + config.nameConfig.resourceName + "\".\n"
-                            + "Rerun the command with option --dry-run to see the resources that will be deleted.\n"
-                            + "Rerun the command with option --execute to execute this operation.");
-            return 0;
+        LabelSelector selector = parseSelector();
+
+        if (config.nameConfig != null && !config.nameConfig.confirmed && !dryRun) {
+            String target = null;
+            if (selector != null) {
+                target = "selector \"" + selector + "\"";
+            } else if (config.nameConfig.resourceName.contains("*") || config.nameConfig.resourceName.contains("?")) {
+                target = "wildcard \"" + config.nameConfig.resourceName + "\"";
+            }
+
+            if (target != null) {
+                commandSpec
+                        .commandLine()
+                        .getOut()
+                        .println("You are about to potentially delete multiple resources with " + target + ".\n"
+                                + "Rerun the command with option --dry-run to see the resources "
+                                + "that will be deleted.\n"
+                                + "Rerun the command with option --execute to execute this operation.");
+                return 0;
+            }
         }
 
         String namespace = getNamespace();
-        List<Resource> resources = parseResources(namespace);
 
         try {
+            List<Resource> resources = parseResources(namespace, selector);
+            if (resources.isEmpty() && selector != null) {
+                String kind = apiResourcesService
+                        .getResourceDefinitionByName(config.nameConfig.resourceType)
+                        .map(ApiResource::getKind)
+                        .orElse(config.nameConfig.resourceType);
+                formatService.displayNoResource(kind, selector, commandSpec);
+                return 0;
+            }
+
             resourceService.validateAllowedResources(resources, commandSpec);
             validateNamespace(resources);
 
-            // Process each document individually, return 0 when all succeed
-            int errors = resources.stream()
-                    .mapToInt(resource -> {
-                        ApiResource apiResource = apiResourcesService
-                                .getResourceDefinitionByKind(resource.getKind())
-                                .orElseThrow();
-                        Map<String, Object> spec = resource.getSpec();
-                        String version = spec != null && spec.containsKey(VERSION)
-                                ? spec.get(VERSION).toString()
-                                : null;
-                        return resourceService.delete(
-                                        apiResource,
-                                        new DeleteResourceRequest(
-                                                namespace,
-                                                apiResource.getPath(),
-                                                null,
-                                                resource.getMetadata().getName(),
-                                                version,
-                                                dryRun,
-                                                force,
-                                                cascade),
-                                        commandSpec)
-                                ? 0
-                                : 1;
-                    })
+            // Delete phase by phase, in reverse dependency order, and return 0 when all succeed
+            int errors = ResourceService.groupByDeletionPhase(resources).stream()
+                    .flatMap(phase -> ParallelExecutor.map(
+                            phase,
+                            parallelismMixin.parallelism,
+                            commandSpec,
+                            (resource, spec) -> deleteResource(namespace, resource, spec))
+                            .stream())
+                    .mapToInt(Integer::intValue)
                     .sum();
 
             return errors == 0 ? 0 : 1;
@@ -140,12 +149,70 @@ public class Delete extends DryRunHook {
     }
 
     /**
-     * Parse input resources (given by file or by name) to build the list of resources to delete.
+     * Delete a resource.
+     *
+     * @param namespace The namespace
+     * @param resource The resource
+     * @param spec The command spec used to print the output
+     * @return 0 if the deletion succeeded, 1 otherwise
+     */
+    private int deleteResource(String namespace, Resource resource, CommandSpec spec) {
+        ApiResource apiResource = apiResourcesService
+                .getResourceDefinitionByKind(resource.getKind())
+                .orElseThrow();
+        Map<String, Object> resourceSpec = resource.getSpec();
+        String version = resourceSpec != null && resourceSpec.containsKey(VERSION)
+                ? resourceSpec.get(VERSION).toString()
+                : null;
+        return resourceService.delete(
+                        apiResource,
+                        new DeleteResourceRequest(
+                                namespace,
+                                apiResource.getPath(),
+                                null,
+                                resource.getMetadata().getName(),
+                                version,
+                                dryRun,
+                                force,
+                                cascade),
+                        spec)
+                ? 0
+                : 1;
+    }
+
+    /**
+     * Parse the label selector option, required when no resource name is given.
+     *
+     * @return The label selector, or null if none is given
+     */
+    private LabelSelector parseSelector() {
+        if (config.nameConfig == null) {
+            return null;
+        }
+
+        if (config.nameConfig.selector == null) {
+            if (config.nameConfig.resourceName == null) {
+                throw new ParameterException(
+                        commandSpec.commandLine(), "A resource name or a label selector is required.");
+            }
+            return null;
+        }
+
+        try {
+            return LabelSelector.parse(config.nameConfig.selector);
+        } catch (IllegalArgumentException e) {
+            throw new ParameterException(commandSpec.commandLine(), e.getMessage());
+        }
+    }
+
+    /**
+     * Parse input resources (given by file, by name or by label selector) to build the list of resources to delete.
      *
      * @param namespace The namespace
+     * @param selector The label selector, if any
      * @return A list of resources
      */
-    private List<Resource> parseResources(String namespace) {
+    private List<Resource> parseResources(String namespace, LabelSelector selector) {
         if (config.fileConfig != null && config.fileConfig.file.isPresent()) {
             if (!config.fileConfig.file.get().exists()) {
                 throw new ParameterException(
@@ -174,19 +241,42 @@ public class Delete extends DryRunHook {
                     "The server does not have resource type(s) " + config.nameConfig.resourceType + ".");
         }
 
-        // Generate a single resource with minimum details from input
+        // Delete each listed resource matching the selector, by its own name
+        if (selector != null) {
+            String resourceName = config.nameConfig.resourceName != null ? config.nameConfig.resourceName : "*";
+            return resourceService
+                    .listResourcesWithType(optionalApiResource.get(), namespace, resourceName, null)
+                    .stream()
+                    .filter(selector)
+                    .map(resource -> resourceByName(
+                            optionalApiResource.get(), namespace, resource.getMetadata().getName()))
+                    .toList();
+        }
+
+        return List.of(resourceByName(optionalApiResource.get(), namespace, config.nameConfig.resourceName));
+    }
+
+    /**
+     * Generate a single resource with minimum details from input.
+     *
+     * @param apiResource The resource type
+     * @param namespace The namespace
+     * @param name The resource name
+     * @return The resource
+     */
+    private Resource resourceByName(ApiResource apiResource, String namespace, String name) {
         Resource.ResourceBuilder builder = Resource.builder()
                 .metadata(Resource.Metadata.builder()
-                        .name(config.nameConfig.resourceName)
+                        .name(name)
                         .namespace(namespace)
                         .build())
-                .kind(optionalApiResource.get().getKind());
+                .kind(apiResource.getKind());
 
         if (config.nameConfig.version.isPresent()) {
             builder = builder.spec(Map.of(VERSION, config.nameConfig.version.get()));
         }
 
-        return List.of(builder.build());
+        return builder.build();
     }
 
     /** By-name of by-file deletion config. */
@@ -205,9 +295,14 @@ public class Delete extends DryRunHook {
         @Parameters(index = "0", description = "Resource type.", arity = "1")
         public String resourceType;
 
-        @Parameters(index = "1", description = "Resource name or wildcard matching resource names.", arity = "1")
+        @Parameters(index = "1", description = "Resource name or wildcard matching resource names.", arity = "0..1")
         public String resourceName;
 
+        @Option(
+                names = {"-l", "--selector"},
+                description = "Label selector of the resources to delete (e.g., env=dev,tier in (front,back)).")
+        public String selector;
+
         @Option(
                 names = {"-V", "--version"},
                 description = "Version to delete. Only with schema resource and name parameter.",
@@ -216,7 +311,7 @@ public class Delete extends DryRunHook {
 
         @Option(
                 names = {"--execute"},
-                description = "This option is mandatory to delete resources with wildcard.")
+                description = "This option is mandatory to delete resources with wildcard or selector.")
         public boolean confirmed;
     }
 
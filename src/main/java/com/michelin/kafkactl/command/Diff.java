@@ -18,29 +18,45 @@
  */
 package com.michelin.kafkactl.command;
 
+import static com.michelin.kafkactl.service.ResourceService.SCHEMA;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.difflib.DiffUtils;
 import com.github.difflib.UnifiedDiffUtils;
 import com.github.difflib.patch.Patch;
 import com.michelin.kafkactl.hook.AuthenticatedHook;
+import com.michelin.kafkactl.mixin.ParallelismMixin;
 import com.michelin.kafkactl.model.ApiResource;
+import com.michelin.kafkactl.model.DiffOutput;
 import com.michelin.kafkactl.model.Resource;
 import com.michelin.kafkactl.model.format.NullSkippingRepresenter;
 import com.michelin.kafkactl.service.FormatService;
 import com.michelin.kafkactl.service.ResourceService;
+import com.michelin.kafkactl.util.ParallelExecutor;
+import com.michelin.kafkactl.util.YamlTreeDiff;
 import io.micronaut.core.annotation.ReflectiveAccess;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import jakarta.inject.Inject;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.nodes.Node;
 import org.yaml.snakeyaml.nodes.Tag;
 import org.yaml.snakeyaml.representer.Representer;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.ParameterException;
 
@@ -56,6 +72,8 @@ import picocli.CommandLine.ParameterException;
         commandListHeading = "%n@|bold Commands|@:%n",
         usageHelpAutoWidth = true)
 public class Diff extends AuthenticatedHook {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     @Inject
     @ReflectiveAccess
     private ResourceService resourceService;
@@ -80,6 +98,15 @@ public class Diff extends AuthenticatedHook {
             split = ",")
     public List<String> ignoreFields = List.of();
 
+    @Option(
+            names = {"-o", "--output"},
+            description = "Output format (${COMPLETION-CANDIDATES}).",
+            defaultValue = "unified")
+    public DiffOutput output;
+
+    @Mixin
+    public ParallelismMixin parallelismMixin;
+
     /**
      * Run the "diff" command.
      *
@@ -105,36 +132,116 @@ public class Diff extends AuthenticatedHook {
         }
     }
 
+    /**
+     * Compare the resources concurrently, up to the parallelism. The differences are printed in input order.
+     *
+     * @param resources The prepared resources
+     * @param namespace The namespace
+     * @return The command return code
+     */
     private int diffResources(List<Resource> resources, String namespace) {
-        int errorCount = resources.stream()
-                .mapToInt(resource -> diffResource(namespace, resource))
+        Map<String, Map<String, Resource>> liveResources = fetchLiveResources(resources, namespace);
+        Yaml yaml = createYaml();
+        int errorCount = ParallelExecutor.map(
+                        resources,
+                        parallelismMixin.parallelism,
+                        commandSpec,
+                        (resource, spec) -> diffResource(namespace, resource, liveResources, yaml, spec))
+                .stream()
+                .mapToInt(Integer::intValue)
                 .sum();
         return errorCount > 0 ? 1 : 0;
     }
 
-    private int diffResource(String namespace, Resource resource) {
+    /**
+     * List the live resources of each kind having several resources to compare, once per kind. Schemas, single
+     * resources, and kinds that cannot be listed are fetched one by one instead.
+     *
+     * @param resources The resources to compare
+     * @param namespace The namespace
+     * @return The live resources by kind and name
+     */
+    private Map<String, Map<String, Resource>> fetchLiveResources(List<Resource> resources, String namespace) {
+        List<ApiResource> apiResources = resources.stream()
+                .collect(Collectors.groupingBy(Resource::getKind, LinkedHashMap::new, Collectors.counting()))
+                .entrySet()
+                .stream()
+                .filter(kind -> kind.getValue() > 1 && !SCHEMA.equals(kind.getKey()))
+                .map(kind -> apiResourcesService.getResourceDefinitionByKind(kind.getKey()))
+                .flatMap(Optional::stream)
+                .toList();
+
+        List<Optional<Map<String, Resource>>> liveResources =
+                ParallelExecutor.map(apiResources, parallelismMixin.parallelism, commandSpec, (apiResource, spec) -> {
+                    try {
+                        return Optional.of(resourceService.listResourcesByName(apiResource, namespace));
+                    } catch (HttpClientResponseException e) {
+                        return Optional.empty();
+                    }
+                });
+
+        Map<String, Map<String, Resource>> liveResourcesByKind = new HashMap<>();
+        for (int i = 0; i < apiResources.size(); i++) {
+            String kind = apiResources.get(i).getKind();
+            liveResources.get(i).ifPresent(live -> liveResourcesByKind.put(kind, live));
+        }
+        return liveResourcesByKind;
+    }
+
+    /**
+     * Compare a resource with its live version. The live version comes from the listed live resources of its kind if
+     * any. Otherwise, with a parallelism, it is fetched while the resource is applied in dry-run mode, under the permit
+     * of the comparison.
+     *
+     * @param namespace The namespace
+     * @param resource The resource
+     * @param liveResources The listed live resources by kind and name
+     * @param yaml The YAML instance used to render the resources
+     * @param spec The command spec used to print the output
+     * @return 0 if the comparison succeeded, 1 otherwise
+     */
+    private int diffResource(
+            String namespace,
+            Resource resource,
+            Map<String, Map<String, Resource>> liveResources,
+            Yaml yaml,
+            CommandSpec spec) {
         ApiResource apiResource = apiResourcesService
                 .getResourceDefinitionByKind(resource.getKind())
                 .orElseThrow();
-        Resource live = resourceService.getSingleResourceWithType(
+        Supplier<Resource> fetchLive = () -> resourceService.getSingleResourceWithType(
                 apiResource, namespace, resource.getMetadata().getName(), false);
-        HttpResponse<Resource> merged = resourceService.apply(apiResource, namespace, resource, true, commandSpec);
+
+        Supplier<Resource> live;
+        if (liveResources.containsKey(resource.getKind())) {
+            Resource listed = liveResources.get(resource.getKind()).get(resource.getMetadata().getName());
+            live = () -> listed;
+        } else if (parallelismMixin.parallelism > 1) {
+            // Joined below, before the task releases its permit
+            live = ParallelExecutor.fork(fetchLive);
+        } else {
+            Resource fetched = fetchLive.get();
+            live = () -> fetched;
+        }
+
+        HttpResponse<Resource> merged = resourceService.apply(apiResource, namespace, resource, true, spec);
+        Resource liveResource = live.get();
         if (merged != null && merged.getBody().isPresent()) {
-            List<String> unifiedDiff = unifiedDiff(live, merged.body());
-            unifiedDiff.forEach(diff -> commandSpec.commandLine().getOut().println(diff));
+            printDiff(liveResource, merged.body(), yaml, spec);
             return 0;
         }
         return 1;
     }
 
     /**
-     * Compute the difference between current resource and applied resource.
+     * Compare the current resource with the applied resource and print the differences, if any.
      *
      * @param live The current resource
      * @param merged The applied new resource
-     * @return The differences
+     * @param yaml The YAML instance used to render the resources
+     * @param spec The command spec used to print the output
      */
-    private List<String> unifiedDiff(Resource live, Resource merged) {
+    private void printDiff(Resource live, Resource merged, Yaml yaml, CommandSpec spec) {
         // Ignore status and timestamp for comparison
         if (live != null) {
             live.setStatus(null);
@@ -146,24 +253,44 @@ public class Diff extends AuthenticatedHook {
         merged.getMetadata().setCreationTimestamp(null);
         merged.getMetadata().setStatus(null);
 
-        DumperOptions options = new DumperOptions();
-        options.setExplicitStart(true);
-        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
-        Representer representer = new NullSkippingRepresenter(new DumperOptions());
-        representer.addClassTag(Resource.class, Tag.MAP);
-        Yaml yaml = new Yaml(representer, options);
+        Node liveTree;
+        Node mergedTree;
+        // The representer keeps track of the object being represented, so concurrent diffs take turns
+        synchronized (yaml) {
+            liveTree = live != null ? yaml.represent(live) : null;
+            mergedTree = yaml.represent(merged);
+        }
 
-        String liveYaml = live != null ? yaml.dump(live) : "";
-        String mergedYaml = yaml.dump(merged);
+        List<ObjectNode> patch = YamlTreeDiff.diff(liveTree, mergedTree, ignoreFields);
+        if (patch.isEmpty()) {
+            return;
+        }
 
-        if (!ignoreFields.isEmpty()) {
-            liveYaml = removeIgnoredFields(liveYaml, ignoreFields, yaml);
-            mergedYaml = removeIgnoredFields(mergedYaml, ignoreFields, yaml);
+        if (output == DiffOutput.JSON_PATCH) {
+            ObjectNode resourcePatch = MAPPER.createObjectNode();
+            resourcePatch.put("kind", merged.getKind());
+            resourcePatch.put("name", merged.getMetadata().getName());
+            resourcePatch.set("patch", MAPPER.valueToTree(patch));
+            spec.commandLine().getOut().println(resourcePatch);
+            return;
         }
 
-        List<String> oldResourceStr =
-                liveYaml.isEmpty() ? List.of() : liveYaml.lines().toList();
-        List<String> newResourceStr = mergedYaml.lines().toList();
+        unifiedDiff(liveTree, mergedTree, merged, yaml)
+                .forEach(diff -> spec.commandLine().getOut().println(diff));
+    }
+
+    /**
+     * Render the difference between the current resource and the applied resource as a unified diff.
+     *
+     * @param liveTree The YAML tree of the current resource, or null if there is none
+     * @param mergedTree The YAML tree of the applied new resource
+     * @param merged The applied new resource
+     * @param yaml The YAML instance used to render the trees
+     * @return The differences
+     */
+    private List<String> unifiedDiff(Node liveTree, Node mergedTree, Resource merged, Yaml yaml) {
+        List<String> oldResourceStr = liveTree != null ? render(liveTree, yaml) : List.of();
+        List<String> newResourceStr = render(mergedTree, yaml);
         Patch<String> diff = DiffUtils.diff(oldResourceStr, newResourceStr);
         return UnifiedDiffUtils.generateUnifiedDiff(
                 String.format(
@@ -176,55 +303,29 @@ public class Diff extends AuthenticatedHook {
     }
 
     /**
-     * Remove ignored fields from YAML content.
+     * Create the YAML instance used to render the resources.
      *
-     * @param yamlContent The YAML content
-     * @param ignoreFields List of dot-notation paths to ignore
-     * @param yaml The YAML instance for parsing/dumping
-     * @return The YAML content without ignored fields
+     * @return The YAML instance
      */
-    private String removeIgnoredFields(String yamlContent, List<String> ignoreFields, Yaml yaml) {
-        if (yamlContent.isEmpty()) {
-            return yamlContent;
-        }
-
-        Object data = yaml.load(yamlContent);
-        if (!(data instanceof Map)) {
-            return yamlContent;
-        }
-
-        @SuppressWarnings("unchecked")
-        Map<String, Object> map = (Map<String, Object>) data;
-
-        // Remove each ignored field using removeFieldRecursive directly
-        for (String path : ignoreFields) {
-            List<String> parts = List.of(path.split("\\."));
-            removeField(map, parts);
-        }
-
-        // Dump back to YAML
-        return yaml.dump(map);
+    private static Yaml createYaml() {
+        DumperOptions options = new DumperOptions();
+        options.setExplicitStart(true);
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        Representer representer = new NullSkippingRepresenter(options);
+        representer.addClassTag(Resource.class, Tag.MAP);
+        return new Yaml(representer, options);
     }
 
     /**
-     * Remove a field from a map using a list of path parts. Handles both nested and flat keys.
+     * Render a YAML tree.
      *
-     * @param map The map to modify
-     * @param parts The list of path parts
+     * @param tree The YAML tree
+     * @param yaml The YAML instance
+     * @return The YAML lines
      */
-    @SuppressWarnings("unchecked")
-    private void removeField(Map<String, Object> map, List<String> parts) {
-        if (parts.isEmpty()) {
-            return;
-        }
-        // Remove flat key if present
-        String flatKey = String.join(".", parts);
-        map.remove(flatKey);
-
-        // Recurse into nested map if possible
-        Object next = map.get(parts.getFirst());
-        if (next instanceof Map) {
-            removeField((Map<String, Object>) next, parts.subList(1, parts.size()));
-        }
+    private List<String> render(Node tree, Yaml yaml) {
+        StringWriter writer = new StringWriter();
+        yaml.serialize(tree, writer);
+        return writer.toString().lines().toList();
     }
 }
@@ -20,13 +20,20 @@ package com.michelin.kafkactl.command;
 
 import com.michelin.kafkactl.hook.AuthenticatedHook;
 import com.michelin.kafkactl.model.ApiResource;
-import com.michelin.kafkactl.model.Output;
+import com.michelin.kafkactl.model.FieldSelector;
+import com.michelin.kafkactl.model.LabelSelector;
+import com.michelin.kafkactl.model.ListOptions;
+import com.michelin.kafkactl.model.OutputFormat;
+import com.michelin.kafkactl.model.format.ResourcePointer;
 import com.michelin.kafkactl.service.FormatService;
 import com.michelin.kafkactl.service.ResourceService;
+import com.michelin.kafkactl.util.DurationConverter;
+import com.michelin.kafkactl.util.OutputFormatConverter;
 import io.micronaut.core.annotation.ReflectiveAccess;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import jakarta.inject.Inject;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -74,9 +81,61 @@ public class Get extends AuthenticatedHook {
 
     @Option(
             names = {"-o", "--output"},
-            description = "Output format (${COMPLETION-CANDIDATES}).",
-            defaultValue = "table")
-    public Output output;
+            description =
+                    "Output format (yaml, yml, table, json, ndjson, csv, tsv, custom-columns=NAME:JSONPOINTER,...).",
+            defaultValue = "table",
+            converter = OutputFormatConverter.class)
+    public OutputFormat output;
+
+    @Option(
+            names = {"-l", "--selector"},
+            description = "Label selector to filter resources on (e.g., env=dev,tier in (front,back)).")
+    public String selector;
+
+    @Option(
+            names = {"--field-selector"},
+            description = "Field selector to filter resources on (e.g., /spec/configs/retention.ms>604800000).")
+    public String fieldSelector;
+
+    @Option(
+            names = {"--sort-by"},
+            description = "JSON pointer of the value to sort resources by (e.g., /metadata/creationTimestamp).")
+    public String sortBy;
+
+    @Option(
+            names = {"--descending"},
+            description = "Sort resources from the greatest value to the lowest.")
+    public boolean descending;
+
+    @Option(
+            names = {"--limit"},
+            description = "Maximum number of resources to display per resource type.")
+    public Integer limit;
+
+    @Option(
+            names = {"-A", "--all-namespaces"},
+            description = "List the resources of all namespaces, with a NAMESPACE column.")
+    public boolean allNamespaces;
+
+    @Option(
+            names = {"-w", "--watch"},
+            description = "Watch the resources, displaying their changes until interrupted.")
+    public boolean watch;
+
+    @Option(
+            names = {"--interval"},
+            description = "Interval in seconds between two listings when watching.",
+            defaultValue = "2")
+    public int interval;
+
+    @Option(
+            names = {"--cached"},
+            description = "Serve the listing from the local cache while younger than the given duration (default 30s).",
+            arity = "0..1",
+            fallbackValue = "30s",
+            paramLabel = "<duration>",
+            converter = DurationConverter.class)
+    public Duration cached;
 
     /**
      * Run the "get" command.
@@ -88,9 +147,30 @@ public class Get extends AuthenticatedHook {
     public Integer onAuthSuccess() throws IOException {
         // Validate resourceType + custom type ALL
         List<ApiResource> apiResources = validateResourceType();
+        ListOptions options = validateListOptions();
+
+        if (allNamespaces) {
+            validateAllNamespaces(apiResources);
+            return resourceService.listAllNamespaces(
+                    apiResources.getFirst(), resourceName, output.getOutput(), options, commandSpec);
+        }
+
+        if (watch) {
+            validateWatch(apiResources);
+            return resourceService.watch(
+                    apiResources.getFirst(),
+                    getNamespace(),
+                    resourceName,
+                    search,
+                    output.getOutput(),
+                    options,
+                    Duration.ofSeconds(interval),
+                    commandSpec);
+        }
 
         try {
-            return resourceService.list(apiResources, getNamespace(), resourceName, search, output, commandSpec);
+            return resourceService.list(
+                    apiResources, getNamespace(), resourceName, search, output.getOutput(), options, commandSpec);
         } catch (HttpClientResponseException e) {
             formatService.displayError(e, apiResources.getFirst().getKind(), resourceName, commandSpec);
             return 1;
@@ -119,4 +199,117 @@ public class Get extends AuthenticatedHook {
         throw new ParameterException(
                 commandSpec.commandLine(), "The server does not have resource type " + resourceType + ".");
     }
+
+    /**
+     * Validate the all namespaces option.
+     *
+     * @param apiResources The resource types to list
+     */
+    private void validateAllNamespaces(List<ApiResource> apiResources) {
+        if (apiResources.size() != 1 || !apiResources.getFirst().isNamespaced()) {
+            throw new ParameterException(
+                    commandSpec.commandLine(),
+                    "The --all-namespaces option requires a single namespaced resource type.");
+        }
+
+        if (watch) {
+            throw new ParameterException(
+                    commandSpec.commandLine(), "The --all-namespaces and --watch options cannot be combined.");
+        }
+
+        if (search != null) {
+            throw new ParameterException(
+                    commandSpec.commandLine(), "The --all-namespaces and --search options cannot be combined.");
+        }
+    }
+
+    /**
+     * Validate the watch options.
+     *
+     * @param apiResources The resource types to watch
+     */
+    private void validateWatch(List<ApiResource> apiResources) {
+        if (apiResources.size() != 1) {
+            throw new ParameterException(
+                    commandSpec.commandLine(), "The --watch option requires a single resource type.");
+        }
+
+        if (interval < 1) {
+            throw new ParameterException(commandSpec.commandLine(), "The interval must be greater than 0.");
+        }
+
+        if (cached != null) {
+            throw new ParameterException(
+                    commandSpec.commandLine(), "The --cached and --watch options cannot be combined.");
+        }
+    }
+
+    /**
+     * Parse the label selector option.
+     *
+     * @return The label selector, or null if none is given
+     */
+    private LabelSelector parseSelector() {
+        if (selector == null) {
+            return null;
+        }
+
+        try {
+            return LabelSelector.parse(selector);
+        } catch (IllegalArgumentException e) {
+            throw new ParameterException(commandSpec.commandLine(), e.getMessage());
+        }
+    }
+
+    /**
+     * Parse the field selector option.
+     *
+     * @return The field selector, or null if none is given
+     */
+    private FieldSelector parseFieldSelector() {
+        if (fieldSelector == null) {
+            return null;
+        }
+
+        try {
+            return FieldSelector.parse(fieldSelector);
+        } catch (IllegalArgumentException e) {
+            throw new ParameterException(commandSpec.commandLine(), e.getMessage());
+        }
+    }
+
+    /**
+     * Validate the selectors, sort and limit options.
+     *
+     * @return The list options
+     */
+    private ListOptions validateListOptions() {
+        if (limit != null && limit < 1) {
+            throw new ParameterException(commandSpec.commandLine(), "The limit must be greater than 0.");
+        }
+
+        if (cached != null && cached.isZero()) {
+            throw new ParameterException(commandSpec.commandLine(), "The cache duration must be greater than 0.");
+        }
+
+        if (sortBy != null) {
+            try {
+                ResourcePointer.compile(sortBy);
+            } catch (IllegalArgumentException e) {
+                throw new ParameterException(commandSpec.commandLine(), e.getMessage());
+            }
+        } else if (descending) {
+            throw new ParameterException(commandSpec.commandLine(), "The --descending option requires --sort-by.");
+        }
+
+        return ListOptions.builder()
+                .selector(parseSelector())
+                .fieldSelector(parseFieldSelector())
+                .sortBy(sortBy)
+                .descending(descending)
+                .limit(limit)
+                .columns(output.getColumns())
+                .cacheTtl(cached)
+                .build();
+    }
 }
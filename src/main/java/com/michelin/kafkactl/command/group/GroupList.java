@@ -19,8 +19,9 @@
 package com.michelin.kafkactl.command.group;
 
 import com.michelin.kafkactl.hook.AuthenticatedHook;
-import com.michelin.kafkactl.model.Output;
+import com.michelin.kafkactl.model.OutputFormat;
 import com.michelin.kafkactl.service.ResourceService;
+import com.michelin.kafkactl.util.OutputFormatConverter;
 import io.micronaut.core.annotation.ReflectiveAccess;
 import jakarta.inject.Inject;
 import picocli.CommandLine.Command;
@@ -43,9 +44,11 @@ public class GroupList extends AuthenticatedHook {
 
     @Option(
             names = {"-o", "--output"},
-            description = "Output format (${COMPLETION-CANDIDATES}).",
-            defaultValue = "table")
-    public Output output;
+            description =
+                    "Output format (yaml, yml, table, json, ndjson, csv, tsv, custom-columns=NAME:JSONPOINTER,...).",
+            defaultValue = "table",
+            converter = OutputFormatConverter.class)
+    public OutputFormat output;
 
     @Option(
             names = {"-e", "--external"},
@@ -59,6 +62,7 @@ public class GroupList extends AuthenticatedHook {
      */
     @Override
     public Integer onAuthSuccess() {
-        return resourceService.listGroups(getNamespace(), external, output, commandSpec);
+        return resourceService.listGroups(
+                getNamespace(), external, output.getOutput(), output.getColumns(), commandSpec);
     }
 }
@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
 import picocli.CommandLine.ParameterException;
 
 /** Authenticated command. */
@@ -54,12 +55,21 @@ public abstract class AuthenticatedHook extends ValidCurrentContextHook {
     @Mixin
     public VerboseMixin verboseMixin;
 
+    @Option(
+            names = {"--refresh-api-resources"},
+            description = "Ignore the cached API resources and fetch them again.")
+    public boolean refreshApiResources;
+
     @Override
     public Integer onContextValid() throws IOException {
         if (!loginService.doAuthenticate(commandSpec, verboseMixin.verbose)) {
             return 1;
         }
 
+        if (refreshApiResources) {
+            apiResourcesService.refreshResourceDefinitions();
+        }
+
         return onAuthSuccess();
     }
 
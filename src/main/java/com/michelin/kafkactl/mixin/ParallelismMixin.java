@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.mixin;
+
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
+import picocli.CommandLine.Spec;
+
+/** Parallelism mixin. */
+public class ParallelismMixin {
+    @Spec(Spec.Target.MIXEE)
+    CommandSpec mixee;
+
+    public int parallelism = 1;
+
+    /**
+     * Set the parallelism, rejecting values lower than 1.
+     *
+     * @param parallelism The parallelism
+     */
+    @Option(
+            names = {"--parallelism"},
+            description = "Maximum number of resources processed concurrently.",
+            defaultValue = "1")
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new ParameterException(mixee.commandLine(), "The parallelism must be greater than 0.");
+        }
+        this.parallelism = parallelism;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.model;
+
+import com.michelin.kafkactl.model.format.ResourcePointer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Field selector, compiled once into a predicate tree over the values of a resource. It supports comma-separated
+ * requirements "POINTER OPERATOR VALUE", all of which must match, where the pointer is a JSON pointer and the operator
+ * is one of "=", "==", "!=", "&lt;", "&lt;=", "&gt;" or "&gt;=". A numeric value is compared numerically to numbers,
+ * numeric text and dates, anything else is compared as text.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public final class FieldSelector implements Predicate<Resource> {
+    private static final Pattern REQUIREMENT_PATTERN = Pattern.compile("(/[^=!<>]*)(==|!=|<=|>=|=|<|>)(.*)");
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("-?\\d+(\\.\\d+)?");
+
+    @EqualsAndHashCode.Include
+    private final String expression;
+
+    private final Predicate<Resource> predicate;
+
+    @Getter
+    private final List<String> pointers;
+
+    /**
+     * Constructor.
+     *
+     * @param expression The selector expression
+     * @param predicate The compiled predicate
+     * @param pointers The JSON pointers of the requirements
+     */
+    private FieldSelector(String expression, Predicate<Resource> predicate, List<String> pointers) {
+        this.expression = expression;
+        this.predicate = predicate;
+        this.pointers = pointers;
+    }
+
+    /**
+     * Compile a selector expression.
+     *
+     * @param expression The selector expression (e.g., "/spec/configs/retention.ms>604800000,/spec/connectCluster=cc1")
+     * @return The compiled selector
+     * @throws IllegalArgumentException If the expression is invalid
+     */
+    public static FieldSelector parse(String expression) {
+        List<Predicate<Resource>> requirements = new ArrayList<>();
+        List<String> pointers = new ArrayList<>();
+        for (String requirement : expression.split(",", -1)) {
+            Matcher matcher = REQUIREMENT_PATTERN.matcher(requirement.trim());
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Invalid field selector \"" + expression + "\".");
+            }
+
+            pointers.add(matcher.group(1).trim());
+            requirements.add(requirement(
+                    ResourcePointer.compile(matcher.group(1).trim()),
+                    matcher.group(2),
+                    matcher.group(3).trim()));
+        }
+
+        Predicate<Resource> predicate = requirements.stream().reduce(Predicate::and).orElse(resource -> true);
+        return new FieldSelector(expression, predicate, pointers);
+    }
+
+    /**
+     * Test whether a resource matches all the requirements.
+     *
+     * @param resource The resource
+     * @return true if the resource matches, false otherwise
+     */
+    @Override
+    public boolean test(Resource resource) {
+        return predicate.test(resource);
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * Compile a requirement.
+     *
+     * @param pointer The compiled pointer
+     * @param operator The operator
+     * @param literal The value to compare to
+     * @return The predicate over resources
+     */
+    private static Predicate<Resource> requirement(ResourcePointer pointer, String operator, String literal) {
+        IntPredicate comparison = switch (operator) {
+            case "=", "==" -> result -> result == 0;
+            case "!=" -> result -> result != 0;
+            case "<" -> result -> result < 0;
+            case "<=" -> result -> result <= 0;
+            case ">" -> result -> result > 0;
+            default -> result -> result >= 0;
+        };
+        boolean equality = operator.startsWith("=") || operator.equals("!=");
+
+        BigDecimal number = asNumber(literal);
+        if (number == null) {
+            return resource -> comparison.test(pointer.display(resource).compareTo(literal));
+        }
+
+        return resource -> {
+            Object value = pointer.resolve(resource);
+            BigDecimal actual = asNumber(value instanceof Date date ? date.getTime() : value);
+            if (actual != null) {
+                return comparison.test(actual.compareTo(number));
+            }
+            // A value that is not a number only compares to a number for equality, as text
+            return equality && comparison.test(pointer.display(resource).compareTo(literal));
+        };
+    }
+
+    /**
+     * Convert a value to a number, without throwing on values that are not numbers.
+     *
+     * @param value The value
+     * @return The number, or null if the value is not a number
+     */
+    private static BigDecimal asNumber(Object value) {
+        if (value instanceof Number number) {
+            return Double.isFinite(number.doubleValue()) ? new BigDecimal(number.toString()) : null;
+        }
+
+        if (value instanceof String text && NUMBER_PATTERN.matcher(text).matches()) {
+            return new BigDecimal(text);
+        }
+
+        return null;
+    }
+}
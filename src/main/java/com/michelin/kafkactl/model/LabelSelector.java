@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Label selector, compiled once into a predicate over the labels of a resource. It supports the comma-separated
+ * requirements of Kubernetes selectors: "key=value", "key==value", "key!=value", "key in (a,b)", "key notin (a,b)",
+ * "key" and "!key".
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public final class LabelSelector implements Predicate<Resource> {
+    private static final String KEY = "[A-Za-z0-9]([\\w./-]*[A-Za-z0-9])?";
+    private static final String VALUE = "([A-Za-z0-9]([\\w.-]*[A-Za-z0-9])?)?";
+    private static final Pattern KEY_PATTERN = Pattern.compile(KEY);
+    private static final Pattern VALUE_PATTERN = Pattern.compile(VALUE);
+    private static final Pattern SET_PATTERN = Pattern.compile("(" + KEY + ")\\s+(in|notin)\\s*\\((.*)\\)");
+
+    @EqualsAndHashCode.Include
+    private final String expression;
+
+    private final List<Predicate<Map<String, String>>> requirements;
+
+    /**
+     * Constructor.
+     *
+     * @param expression The selector expression
+     * @param requirements The compiled requirements
+     */
+    private LabelSelector(String expression, List<Predicate<Map<String, String>>> requirements) {
+        this.expression = expression;
+        this.requirements = requirements;
+    }
+
+    /**
+     * Compile a selector expression.
+     *
+     * @param expression The selector expression (e.g., "env=dev,tier in (front,back)")
+     * @return The compiled selector
+     * @throws IllegalArgumentException If the expression is invalid
+     */
+    public static LabelSelector parse(String expression) {
+        List<Predicate<Map<String, String>>> requirements = new ArrayList<>();
+        for (String requirement : splitRequirements(expression)) {
+            requirements.add(requirement(expression, requirement.trim()));
+        }
+        return new LabelSelector(expression, requirements);
+    }
+
+    /**
+     * Test whether the labels of a resource match all the requirements.
+     *
+     * @param resource The resource
+     * @return true if the resource matches, false otherwise
+     */
+    @Override
+    public boolean test(Resource resource) {
+        Resource.Metadata metadata = resource.getMetadata();
+        Map<String, String> labels =
+                metadata != null && metadata.getLabels() != null ? metadata.getLabels() : Map.of();
+
+        for (Predicate<Map<String, String>> requirement : requirements) {
+            if (!requirement.test(labels)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * Split an expression into requirements, on the commas outside parentheses.
+     *
+     * @param expression The selector expression
+     * @return The requirements
+     */
+    private static List<String> splitRequirements(String expression) {
+        List<String> requirements = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < expression.length(); i++) {
+            char c = expression.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                requirements.add(expression.substring(start, i));
+                start = i + 1;
+            }
+        }
+        requirements.add(expression.substring(start));
+        return requirements;
+    }
+
+    /**
+     * Compile a requirement.
+     *
+     * @param expression The selector expression, for error messages
+     * @param requirement The trimmed requirement
+     * @return The predicate over labels
+     */
+    private static Predicate<Map<String, String>> requirement(String expression, String requirement) {
+        Matcher set = SET_PATTERN.matcher(requirement);
+        if (set.matches()) {
+            String key = set.group(1);
+            Set<String> values = Arrays.stream(set.group(4).split(","))
+                    .map(value -> validate(expression, VALUE_PATTERN, value.trim()))
+                    .collect(Collectors.toUnmodifiableSet());
+            return set.group(3).equals("in")
+                    ? labels -> values.contains(labels.get(key))
+                    : labels -> !values.contains(labels.get(key));
+        }
+
+        if (requirement.startsWith("!")) {
+            String key = validate(expression, KEY_PATTERN, requirement.substring(1).trim());
+            return labels -> !labels.containsKey(key);
+        }
+
+        int inequality = requirement.indexOf("!=");
+        if (inequality >= 0) {
+            String key = validate(expression, KEY_PATTERN, requirement.substring(0, inequality).trim());
+            String value = validate(expression, VALUE_PATTERN, requirement.substring(inequality + 2).trim());
+            return labels -> !value.equals(labels.get(key));
+        }
+
+        int equality = requirement.indexOf('=');
+        if (equality >= 0) {
+            int valueStart = requirement.startsWith("==", equality) ? equality + 2 : equality + 1;
+            String key = validate(expression, KEY_PATTERN, requirement.substring(0, equality).trim());
+            String value = validate(expression, VALUE_PATTERN, requirement.substring(valueStart).trim());
+            return labels -> value.equals(labels.get(key));
+        }
+
+        String key = validate(expression, KEY_PATTERN, requirement);
+        return labels -> labels.containsKey(key);
+    }
+
+    /**
+     * Validate a key or a value of a requirement.
+     *
+     * @param expression The selector expression, for error messages
+     * @param pattern The expected pattern
+     * @param text The key or value
+     * @return The key or value
+     */
+    private static String validate(String expression, Pattern pattern, String text) {
+        if (!pattern.matcher(text).matches()) {
+            throw new IllegalArgumentException("Invalid label selector \"" + expression + "\".");
+        }
+        return text;
+    }
+}
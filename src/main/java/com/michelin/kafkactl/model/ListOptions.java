@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/** Client-side options applied to listed resources, before they are displayed, and to the cache of listings. */
+@Getter
+@Builder
+@EqualsAndHashCode
+public class ListOptions {
+    private LabelSelector selector;
+    private FieldSelector fieldSelector;
+    private String sortBy;
+    private boolean descending;
+    private Integer limit;
+    private List<String> columns;
+    private Duration cacheTtl;
+
+    /**
+     * Get the options leaving the listed resources as they are returned.
+     *
+     * @return The options
+     */
+    public static ListOptions none() {
+        return ListOptions.builder().build();
+    }
+
+    /**
+     * Get the JSON pointers of the values the options and the custom columns read, when custom columns are displayed.
+     * Listed resources can then be decoded with these values only.
+     *
+     * @return The JSON pointers, or null if the whole resources are displayed
+     */
+    public List<String> projection() {
+        if (columns == null) {
+            return null;
+        }
+
+        List<String> pointers = new ArrayList<>(List.of("/apiVersion", "/kind", "/metadata/name"));
+        columns.forEach(column -> pointers.addAll(OutputFormat.pointersOf(column)));
+        if (selector != null) {
+            pointers.add("/metadata/labels");
+        }
+        if (fieldSelector != null) {
+            pointers.addAll(fieldSelector.getPointers());
+        }
+        if (sortBy != null) {
+            pointers.add(sortBy);
+        }
+        return pointers;
+    }
+}
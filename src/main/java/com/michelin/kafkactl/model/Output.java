@@ -27,7 +27,11 @@ import lombok.Getter;
 public enum Output {
     YAML("yaml"),
     YML("yml"),
-    TABLE("table");
+    TABLE("table"),
+    JSON("json"),
+    NDJSON("ndjson"),
+    CSV("csv"),
+    TSV("tsv");
 
     private final String name;
 
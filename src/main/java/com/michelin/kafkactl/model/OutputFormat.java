@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.model;
+
+import com.michelin.kafkactl.model.format.ResourcePointer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Output format of listed resources. Besides the {@link Output} formats, it supports "custom-columns=COLUMNS", a table
+ * with the given comma-separated columns instead of the configured ones, each column having the format of the table
+ * format configuration: "NAME:JSONPOINTER[%TRANSFORM][:WIDTH]".
+ */
+@Getter
+@EqualsAndHashCode
+public final class OutputFormat {
+    private static final String CUSTOM_COLUMNS = "custom-columns=";
+    private static final Pattern COLUMN_PATTERN = Pattern.compile("[^:/,]+:[^:]+(:\\s*\\d+)?");
+    // A comma followed by a header starts a new column, other commas separate fallback pointers of a column
+    private static final Pattern COLUMN_SEPARATOR = Pattern.compile(",(?=[^:/,]+:)");
+
+    private final Output output;
+    private final List<String> columns;
+
+    /**
+     * Constructor.
+     *
+     * @param output The output
+     * @param columns The custom columns, or null to display the configured ones
+     */
+    private OutputFormat(Output output, List<String> columns) {
+        this.output = output;
+        this.columns = columns;
+    }
+
+    /**
+     * Get the output format of an output.
+     *
+     * @param output The output
+     * @return The output format
+     */
+    public static OutputFormat of(Output output) {
+        return new OutputFormat(output, null);
+    }
+
+    /**
+     * Parse an output format.
+     *
+     * @param value The output format (e.g., "yaml" or "custom-columns=NAME:/metadata/name,PARTS:/spec/partitions")
+     * @return The output format
+     * @throws IllegalArgumentException If the output format is invalid
+     */
+    public static OutputFormat parse(String value) {
+        if (value.startsWith(CUSTOM_COLUMNS)) {
+            String expression = value.substring(CUSTOM_COLUMNS.length());
+            List<String> columns = Arrays.stream(COLUMN_SEPARATOR.split(expression))
+                    .map(String::trim)
+                    .toList();
+            for (String column : columns) {
+                if (!COLUMN_PATTERN.matcher(column).matches()) {
+                    throw new IllegalArgumentException("Invalid custom column \"" + column
+                            + "\", expected NAME:JSONPOINTER[%TRANSFORM][:WIDTH].");
+                }
+                pointersOf(column).forEach(ResourcePointer::compile);
+            }
+            return new OutputFormat(Output.TABLE, columns);
+        }
+
+        for (Output output : Output.values()) {
+            if (output.toString().equalsIgnoreCase(value)) {
+                return of(output);
+            }
+        }
+
+        String outputs = Arrays.stream(Output.values()).map(Output::toString).collect(Collectors.joining(", "));
+        throw new IllegalArgumentException(
+                "Invalid output format \"" + value + "\", expected one of " + outputs + " or " + CUSTOM_COLUMNS
+                        + "COLUMNS.");
+    }
+
+    /**
+     * Get the JSON pointers a column displays, including its fallback pointers.
+     *
+     * @param column The column (e.g., "TYPE:/spec/type,/spec/kind%AGO:10")
+     * @return The JSON pointers
+     */
+    public static List<String> pointersOf(String column) {
+        return Arrays.stream(column.split(":")[1].split("%")[0].split(","))
+                .map(String::trim)
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return columns == null ? output.toString() : CUSTOM_COLUMNS + String.join(",", columns);
+    }
+}
@@ -20,37 +20,90 @@ package com.michelin.kafkactl.model.format;
 
 import static io.micronaut.core.util.StringUtils.EMPTY_STRING;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.util.StdDateFormat;
-import java.text.ParseException;
+import com.michelin.kafkactl.model.Resource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
 import java.util.Date;
-import lombok.AllArgsConstructor;
+import java.util.OptionalLong;
 import org.ocpsoft.prettytime.PrettyTime;
 
 /** Ago format. */
-@AllArgsConstructor
 public class AgoFormat implements OutputFormatStrategy {
-    private String jsonPointer;
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .optionalStart()
+            .appendLiteral('T')
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .optionalStart()
+            .appendOffset("+HH:MM", "Z")
+            .optionalEnd()
+            .optionalStart()
+            .appendOffset("+HHMM", "Z")
+            .optionalEnd()
+            .optionalEnd()
+            .toFormatter();
+
+    private final ResourcePointer pointer;
+    private final PrettyTime prettyTime = new PrettyTime();
+
+    /**
+     * Constructor.
+     *
+     * @param jsonPointer The JSON pointer
+     */
+    public AgoFormat(String jsonPointer) {
+        this.pointer = ResourcePointer.compile(jsonPointer);
+    }
 
     /**
      * Display a date as a relative time (e.g., "3 hours ago").
      *
-     * @param node The JSON node to extract the date from
+     * @param resource The resource to extract the date from
      * @return The relative time string or empty string if unparseable
      */
     @Override
-    public String display(JsonNode node) {
-        String output;
-        JsonNode cell = node.at(this.jsonPointer);
+    public String display(Resource resource) {
+        Object cell = pointer.resolve(resource);
+        Date date = cell instanceof Date value ? value : parse(cell);
+        return date == null ? EMPTY_STRING : prettyTime.format(date);
+    }
 
-        try {
-            StdDateFormat sdf = new StdDateFormat();
-            Date d = sdf.parse(cell.asText());
-            output = new PrettyTime().format(d);
-        } catch (ParseException e) {
-            output = EMPTY_STRING;
+    /**
+     * Parse a timestamp, given in milliseconds since the epoch or in the ISO-8601 format. A timestamp without offset is
+     * in UTC, and a date without time is the start of that day in UTC.
+     *
+     * @param cell The timestamp
+     * @return The date, or null if the cell is not a timestamp
+     */
+    private static Date parse(Object cell) {
+        OptionalLong millis = ResourcePointer.asLong(cell);
+        if (millis.isPresent()) {
+            return new Date(millis.getAsLong());
         }
 
-        return output;
+        String text = ResourcePointer.asText(cell);
+        if (text.isEmpty()) {
+            return null;
+        }
+
+        try {
+            TemporalAccessor parsed = TIMESTAMP_FORMATTER.parseBest(
+                    text, OffsetDateTime::from, LocalDateTime::from, LocalDate::from);
+            if (parsed instanceof OffsetDateTime offsetDateTime) {
+                return Date.from(offsetDateTime.toInstant());
+            }
+            if (parsed instanceof LocalDateTime localDateTime) {
+                return Date.from(localDateTime.toInstant(ZoneOffset.UTC));
+            }
+            return Date.from(((LocalDate) parsed).atStartOfDay(ZoneOffset.UTC).toInstant());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.model.format;
+
+import static io.micronaut.core.util.StringUtils.EMPTY_STRING;
+
+import com.michelin.kafkactl.model.Resource;
+import java.util.OptionalLong;
+
+/** Bytes format. */
+public class BytesFormat implements OutputFormatStrategy {
+    private static final String[] UNITS = {"B", "KiB", "MiB", "GiB", "TiB", "PiB", "EiB"};
+    private static final int UNIT_SIZE = 1024;
+
+    private final ResourcePointer pointer;
+
+    /**
+     * Constructor.
+     *
+     * @param jsonPointer The JSON pointer
+     */
+    public BytesFormat(String jsonPointer) {
+        this.pointer = ResourcePointer.compile(jsonPointer);
+    }
+
+    /**
+     * Display a number of bytes with a binary unit and one decimal at most (e.g., "1.5GiB"). Negative values, such as
+     * the -1 of unlimited Kafka configs, are displayed as is.
+     *
+     * @param resource The resource to extract the number of bytes from
+     * @return The formatted size or empty string if unparseable
+     */
+    @Override
+    public String display(Resource resource) {
+        OptionalLong value = ResourcePointer.asLong(pointer.resolve(resource));
+        if (value.isEmpty()) {
+            return EMPTY_STRING;
+        }
+
+        long bytes = value.getAsLong();
+        if (bytes < UNIT_SIZE) {
+            return bytes + UNITS[0];
+        }
+
+        int unit = 0;
+        double scaled = bytes;
+        while (scaled >= UNIT_SIZE && unit < UNITS.length - 1) {
+            scaled /= UNIT_SIZE;
+            unit++;
+        }
+
+        long tenths = Math.round(scaled * 10);
+        if (tenths >= UNIT_SIZE * 10L && unit < UNITS.length - 1) {
+            // Rounding reached the next unit
+            tenths = Math.round(scaled * 10 / UNIT_SIZE);
+            unit++;
+        }
+
+        return tenths % 10 == 0 ? (tenths / 10) + UNITS[unit] : (tenths / 10) + "." + (tenths % 10) + UNITS[unit];
+    }
+}
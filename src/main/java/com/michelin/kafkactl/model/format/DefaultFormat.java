@@ -20,51 +20,36 @@ package com.michelin.kafkactl.model.format;
 
 import static io.micronaut.core.util.StringUtils.EMPTY_STRING;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.JsonNodeType;
-import java.util.ArrayList;
+import com.michelin.kafkactl.model.Resource;
 import java.util.List;
-import lombok.AllArgsConstructor;
 
 /** Default format. */
-@AllArgsConstructor
 public class DefaultFormat implements OutputFormatStrategy {
-    private String jsonPointer;
+    private final List<ResourcePointer> pointers;
+
+    /**
+     * Constructor.
+     *
+     * @param jsonPointer The comma-separated JSON pointers
+     */
+    public DefaultFormat(String jsonPointer) {
+        this.pointers = ResourcePointer.compileAll(jsonPointer);
+    }
 
     /**
      * Display the first non-empty value from comma-separated JSON pointers.
      *
-     * @param node The JSON node to extract value from
+     * @param resource The resource to extract value from
      * @return The resolved value or empty string
      */
     @Override
-    public String display(JsonNode node) {
-        String[] pointers = this.jsonPointer.split(",");
-        for (String pointer : pointers) {
-            String result = resolvePointer(node, pointer.trim());
+    public String display(Resource resource) {
+        for (ResourcePointer pointer : pointers) {
+            String result = pointer.display(resource);
             if (!result.isEmpty()) {
                 return result;
             }
         }
         return EMPTY_STRING;
     }
-
-    /**
-     * Resolve a single JSON pointer against a node.
-     *
-     * @param node The JSON node to query
-     * @param pointer The JSON pointer to resolve
-     * @return The resolved value or empty string
-     */
-    private String resolvePointer(JsonNode node, String pointer) {
-        JsonNode cell = node.at(pointer);
-
-        if (cell.isArray()) {
-            List<String> children = new ArrayList<>();
-            cell.elements().forEachRemaining(jsonNode -> children.add(jsonNode.asText()));
-            return String.join(",", children);
-        }
-
-        return cell.getNodeType().equals(JsonNodeType.NULL) ? EMPTY_STRING : cell.asText();
-    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.model.format;
+
+import static io.micronaut.core.util.StringUtils.EMPTY_STRING;
+
+import com.michelin.kafkactl.model.Resource;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.OptionalLong;
+
+/** Number format. */
+public class NumberFormat implements OutputFormatStrategy {
+    private final ResourcePointer pointer;
+    private final DecimalFormat decimalFormat =
+            new DecimalFormat("#,##0.###", DecimalFormatSymbols.getInstance(Locale.ROOT));
+
+    /**
+     * Constructor.
+     *
+     * @param jsonPointer The JSON pointer
+     */
+    public NumberFormat(String jsonPointer) {
+        this.pointer = ResourcePointer.compile(jsonPointer);
+    }
+
+    /**
+     * Display a number with grouped thousands (e.g., "1,234,567").
+     *
+     * @param resource The resource to extract the number from
+     * @return The formatted number or empty string if unparseable
+     */
+    @Override
+    public String display(Resource resource) {
+        Object cell = pointer.resolve(resource);
+        if (cell instanceof Number number) {
+            return decimalFormat.format(number);
+        }
+
+        OptionalLong value = ResourcePointer.asLong(cell);
+        return value.isPresent() ? decimalFormat.format(value.getAsLong()) : EMPTY_STRING;
+    }
+}
@@ -18,15 +18,15 @@
  */
 package com.michelin.kafkactl.model.format;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.michelin.kafkactl.model.Resource;
 
 /** Output format strategy. */
 public interface OutputFormatStrategy {
     /**
-     * Display a formatted value from the given node.
+     * Display a formatted value from the given resource.
      *
-     * @param node The JSON node to extract and format value from
+     * @param resource The resource to extract and format value from
      * @return The formatted value
      */
-    String display(JsonNode node);
+    String display(Resource resource);
 }
@@ -20,39 +20,98 @@ package com.michelin.kafkactl.model.format;
 
 import static io.micronaut.core.util.StringUtils.EMPTY_STRING;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import java.util.concurrent.TimeUnit;
-import lombok.AllArgsConstructor;
+import com.michelin.kafkactl.model.Resource;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.OptionalLong;
 
 /** Period format. */
-@AllArgsConstructor
 public class PeriodFormat implements OutputFormatStrategy {
-    private String jsonPointer;
+    private final ResourcePointer pointer;
+    private final boolean seconds;
 
     /**
-     * Display a duration in milliseconds as a human-readable period (e.g., "2d3h15m").
+     * Constructor.
      *
-     * @param node The JSON node to extract the duration from
-     * @return The formatted period string or empty string if unparseable
+     * @param jsonPointer The JSON pointer
+     */
+    public PeriodFormat(String jsonPointer) {
+        this(jsonPointer, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param jsonPointer The JSON pointer
+     * @param seconds Whether to display the period down to the second, and periods below one second in milliseconds
+     */
+    public PeriodFormat(String jsonPointer, boolean seconds) {
+        this.pointer = ResourcePointer.compile(jsonPointer);
+        this.seconds = seconds;
+    }
+
+    /**
+     * Display a duration, given in milliseconds or in the ISO-8601 format, as a human-readable period (e.g.,
+     * "2d3h15m").
+     *
+     * @param resource The resource to extract the duration from
+     * @return The formatted period string or empty string if unparseable or negative
      */
     @Override
-    public String display(JsonNode node) {
-        String output;
-        JsonNode cell = node.at(this.jsonPointer);
+    public String display(Resource resource) {
+        Duration duration = parse(pointer.resolve(resource));
+        if (duration == null || duration.isNegative()) {
+            return EMPTY_STRING;
+        }
+
+        if (seconds && duration.getSeconds() == 0) {
+            return duration.toMillis() + "ms";
+        }
+
+        StringBuilder output = new StringBuilder();
+        append(output, duration.toDaysPart(), 'd');
+        append(output, duration.toHoursPart(), 'h');
+        append(output, duration.toMinutesPart(), 'm');
+        if (seconds) {
+            append(output, duration.toSecondsPart(), 's');
+        }
+        return output.toString();
+    }
+
+    /**
+     * Parse a duration.
+     *
+     * @param cell The milliseconds or the ISO-8601 duration
+     * @return The duration, or null if the cell is not a duration
+     */
+    private static Duration parse(Object cell) {
+        OptionalLong millis = ResourcePointer.asLong(cell);
+        if (millis.isPresent()) {
+            return Duration.ofMillis(millis.getAsLong());
+        }
+
+        String text = ResourcePointer.asText(cell);
+        if (!text.startsWith("P") && !text.startsWith("-P")) {
+            return null;
+        }
 
         try {
-            long ms = Long.parseLong(cell.asText());
-            long days = TimeUnit.MILLISECONDS.toDays(ms);
-            long hours = TimeUnit.MILLISECONDS.toHours(ms - TimeUnit.DAYS.toMillis(days));
-            long minutes =
-                    TimeUnit.MILLISECONDS.toMinutes(ms - TimeUnit.DAYS.toMillis(days) - TimeUnit.HOURS.toMillis(hours));
-            output = days > 0 ? (days + "d") : "";
-            output += hours > 0 ? (hours + "h") : "";
-            output += minutes > 0 ? (minutes + "m") : "";
-        } catch (NumberFormatException e) {
-            output = EMPTY_STRING;
+            return Duration.parse(text);
+        } catch (DateTimeParseException e) {
+            return null;
         }
+    }
 
-        return output;
+    /**
+     * Append a non-zero part of a duration.
+     *
+     * @param output The output
+     * @param value The value of the part
+     * @param unit The unit of the part
+     */
+    private static void append(StringBuilder output, long value, char unit) {
+        if (value > 0) {
+            output.append(value).append(unit);
+        }
     }
 }
@@ -0,0 +1,331 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.model.format;
+
+import static io.micronaut.core.util.StringUtils.EMPTY_STRING;
+
+import com.michelin.kafkactl.model.Resource;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Function;
+
+/**
+ * JSON pointer compiled into direct accessors over a resource, its metadata and its spec maps. It resolves the same
+ * values as the pointer applied to the JSON tree of the resource, without building the tree.
+ */
+public final class ResourcePointer {
+    private static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSxxx").withZone(ZoneOffset.UTC);
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final List<Function<Object, Object>> steps;
+
+    /**
+     * Constructor.
+     *
+     * @param steps The accessors to apply, one per pointer segment
+     */
+    private ResourcePointer(List<Function<Object, Object>> steps) {
+        this.steps = steps;
+    }
+
+    /**
+     * Compile a JSON pointer.
+     *
+     * @param pointer The JSON pointer (e.g., /spec/config/connector.class)
+     * @return The compiled pointer
+     */
+    public static ResourcePointer compile(String pointer) {
+        if (pointer.isEmpty()) {
+            return new ResourcePointer(List.of());
+        }
+
+        if (!pointer.startsWith("/")) {
+            throw new IllegalArgumentException(
+                    "Invalid JSON pointer \"" + pointer + "\", it must start with '/'.");
+        }
+
+        List<Function<Object, Object>> steps = Arrays.stream(pointer.substring(1).split("/", -1))
+                .map(segment -> segment.replace("~1", "/").replace("~0", "~"))
+                .map(ResourcePointer::step)
+                .toList();
+        return new ResourcePointer(steps);
+    }
+
+    /**
+     * Compile comma-separated JSON pointers, tried in order until one resolves to a non-empty value.
+     *
+     * @param pointers The comma-separated JSON pointers
+     * @return The compiled pointers
+     */
+    public static List<ResourcePointer> compileAll(String pointers) {
+        List<ResourcePointer> compiled = new ArrayList<>();
+        for (String pointer : pointers.split(",")) {
+            compiled.add(compile(pointer.trim()));
+        }
+        return compiled;
+    }
+
+    /**
+     * Resolve the pointer against a resource.
+     *
+     * @param resource The resource
+     * @return The value, or null if the pointer does not match any value
+     */
+    public Object resolve(Resource resource) {
+        Object value = resource;
+        for (Function<Object, Object> step : steps) {
+            value = step.apply(value);
+            if (value == null) {
+                return null;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Build a comparator of resources by the value the pointer resolves to. Numbers, numeric text such as Kafka
+     * configs, and dates compare numerically, anything else as text. Resources without a value come last, in both
+     * orders.
+     *
+     * @param descending Whether the greatest values come first
+     * @return The comparator
+     */
+    public Comparator<Resource> comparator(boolean descending) {
+        Comparator<Object> keys = ResourcePointer::compareSortKeys;
+        return Comparator.comparing(this::sortKey, Comparator.nullsLast(descending ? keys.reversed() : keys));
+    }
+
+    /**
+     * Get the sort key of a resource.
+     *
+     * @param resource The resource
+     * @return A Long, a Double or a non-empty String, or null if the resource has no value
+     */
+    private Object sortKey(Resource resource) {
+        Object value = resolve(resource);
+        if (value instanceof Date date) {
+            return date.getTime();
+        }
+
+        if (value instanceof Number number && !(value instanceof Long || value instanceof Integer)) {
+            return number.doubleValue();
+        }
+
+        OptionalLong number = asLong(value);
+        if (number.isPresent()) {
+            return number.getAsLong();
+        }
+
+        String text = asText(value);
+        return text.isEmpty() ? null : text;
+    }
+
+    /**
+     * Compare sort keys. Numbers come before text.
+     *
+     * @param left The left key
+     * @param right The right key
+     * @return The comparison result
+     */
+    private static int compareSortKeys(Object left, Object right) {
+        if (left instanceof Long leftLong && right instanceof Long rightLong) {
+            return Long.compare(leftLong, rightLong);
+        }
+
+        if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+            return Double.compare(leftNumber.doubleValue(), rightNumber.doubleValue());
+        }
+
+        if (left instanceof Number || right instanceof Number) {
+            return left instanceof Number ? -1 : 1;
+        }
+
+        return ((String) left).compareTo((String) right);
+    }
+
+    /**
+     * Display the value the pointer resolves to, the way a JSON text node would. Lists are displayed as their
+     * comma-separated items, objects and missing values as an empty string.
+     *
+     * @param resource The resource
+     * @return The displayed value
+     */
+    public String display(Resource resource) {
+        Object value = resolve(resource);
+        if (value instanceof List<?> items) {
+            return String.join(",", items.stream().map(ResourcePointer::asText).toList());
+        }
+        return asText(value);
+    }
+
+    /**
+     * Convert a scalar value to text, as serialized to JSON. Containers have no text.
+     *
+     * @param value The value
+     * @return The text
+     */
+    public static String asText(Object value) {
+        if (value instanceof String text) {
+            return text;
+        }
+
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+
+        if (value instanceof Date date) {
+            return DATE_FORMATTER.format(date.toInstant());
+        }
+
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+
+        return EMPTY_STRING;
+    }
+
+    /**
+     * Convert a scalar value to a whole number, without throwing on values that are not numbers. Decimal numbers are
+     * truncated.
+     *
+     * @param value The value
+     * @return The number, or empty if the value is not a number
+     */
+    public static OptionalLong asLong(Object value) {
+        if (value instanceof Number number) {
+            return OptionalLong.of(number.longValue());
+        }
+
+        if (!(value instanceof String text)) {
+            return OptionalLong.empty();
+        }
+
+        int start = text.startsWith("-") ? 1 : 0;
+        if (text.length() == start || text.length() - start > MAX_LONG_DIGITS) {
+            return OptionalLong.empty();
+        }
+
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return OptionalLong.empty();
+            }
+        }
+
+        return OptionalLong.of(Long.parseLong(text));
+    }
+
+    /**
+     * Build the accessor of a pointer segment. Fields of the resource model are read through their getters, and
+     * anything else through the map key or the list index.
+     *
+     * @param segment The unescaped pointer segment
+     * @return The accessor, returning null if there is no such child
+     */
+    private static Function<Object, Object> step(String segment) {
+        Function<Resource, Object> resourceField = resourceField(segment);
+        Function<Resource.Metadata, Object> metadataField = metadataField(segment);
+        Function<Resource.Metadata.Status, Object> statusField = statusField(segment);
+        int index = segment.matches("0|[1-9]\\d{0,8}") ? Integer.parseInt(segment) : -1;
+
+        return value -> {
+            if (value instanceof Resource resource) {
+                return resourceField != null ? resourceField.apply(resource) : null;
+            }
+
+            if (value instanceof Resource.Metadata metadata) {
+                return metadataField != null ? metadataField.apply(metadata) : null;
+            }
+
+            if (value instanceof Resource.Metadata.Status status) {
+                return statusField != null ? statusField.apply(status) : null;
+            }
+
+            if (value instanceof Map<?, ?> map) {
+                return map.get(segment);
+            }
+
+            if (value instanceof List<?> list) {
+                return index >= 0 && index < list.size() ? list.get(index) : null;
+            }
+
+            return null;
+        };
+    }
+
+    /**
+     * Get the accessor of a resource field.
+     *
+     * @param name The field name
+     * @return The accessor, or null if there is no such field
+     */
+    private static Function<Resource, Object> resourceField(String name) {
+        return switch (name) {
+            case "apiVersion" -> Resource::getApiVersion;
+            case "kind" -> Resource::getKind;
+            case "metadata" -> Resource::getMetadata;
+            case "spec" -> Resource::getSpec;
+            case "status" -> Resource::getStatus;
+            default -> null;
+        };
+    }
+
+    /**
+     * Get the accessor of a metadata field.
+     *
+     * @param name The field name
+     * @return The accessor, or null if there is no such field
+     */
+    private static Function<Resource.Metadata, Object> metadataField(String name) {
+        return switch (name) {
+            case "name" -> Resource.Metadata::getName;
+            case "namespace" -> Resource.Metadata::getNamespace;
+            case "cluster" -> Resource.Metadata::getCluster;
+            case "labels" -> Resource.Metadata::getLabels;
+            case "generation" -> Resource.Metadata::getGeneration;
+            case "creationTimestamp" -> Resource.Metadata::getCreationTimestamp;
+            case "updateTimestamp" -> Resource.Metadata::getUpdateTimestamp;
+            case "status" -> Resource.Metadata::getStatus;
+            default -> null;
+        };
+    }
+
+    /**
+     * Get the accessor of a metadata status field.
+     *
+     * @param name The field name
+     * @return The accessor, or null if there is no such field
+     */
+    private static Function<Resource.Metadata.Status, Object> statusField(String name) {
+        return switch (name) {
+            case "phase" -> Resource.Metadata.Status::getPhase;
+            case "message" -> Resource.Metadata.Status::getMessage;
+            case "lastUpdateTime" -> Resource.Metadata.Status::getLastUpdateTime;
+            default -> null;
+        };
+    }
+}
@@ -24,6 +24,7 @@ import io.micronaut.core.annotation.Introspected;
 import io.micronaut.core.convert.format.MapFormat;
 import io.micronaut.core.util.StringUtils;
 import java.io.File;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import lombok.Builder;
@@ -43,6 +44,9 @@ public class KafkactlProperties {
     private String currentNamespace;
     private List<ContextsProperties> contexts;
     private String version;
+    private Duration apiResourcesCacheTtl;
+    private Duration tokenExpiryMargin;
+    private Integer listParallelism;
 
     @MapFormat(transformation = MapFormat.MapTransformation.FLAT)
     private Map<String, List<String>> tableFormat;
@@ -18,18 +18,46 @@
  */
 package com.michelin.kafkactl.service;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.michelin.kafkactl.client.ClusterResourceClient;
 import com.michelin.kafkactl.model.ApiResource;
+import com.michelin.kafkactl.model.ApiResourcesCache;
 import com.michelin.kafkactl.model.Resource;
+import com.michelin.kafkactl.property.KafkactlProperties;
 import io.micronaut.core.annotation.ReflectiveAccess;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
-/** Api resources service. */
+/**
+ * Api resources service.
+ *
+ * <p>The resource definitions are cached on disk, per API and user token, for the configured time-to-live. An expired
+ * cache is revalidated with a conditional request.
+ */
 @Singleton
 public class ApiResourcesService {
+    private static final String CACHE_DIRECTORY = "cache";
+    private static final String CACHE_FILE_PREFIX = "api-resources-";
+
     @Inject
     @ReflectiveAccess
     private ClusterResourceClient resourceClient;
@@ -38,37 +66,50 @@ public class ApiResourcesService {
     @ReflectiveAccess
     private LoginService loginService;
 
+    @Inject
+    @ReflectiveAccess
+    private KafkactlProperties kafkactlProperties;
+
+    private volatile Catalog catalog;
+
+    private volatile boolean refresh;
+
     /**
-     * List all resource definitions.
+     * List all resource definitions. The definitions are fetched once, then served from memory for the rest of the
+     * run.
      *
      * @return A list of API resources
      */
     public List<ApiResource> listResourceDefinitions() {
-        return resourceClient.listResourceDefinitions(loginService.getAuthorization());
+        return getCatalog().resources();
     }
 
     /**
-     * Get a resource definition by kind.
+     * Get a resource definition by kind. A kind missing from the disk cache triggers a new fetch.
      *
      * @param kind The kind
      * @return The resource definition if it exists
      */
     public Optional<ApiResource> getResourceDefinitionByKind(String kind) {
-        return listResourceDefinitions().stream()
-                .filter(resource -> resource.getKind().equals(kind))
-                .findFirst();
+        Catalog current = getCatalog();
+        if (!current.byKind().containsKey(kind) && current.fromCache()) {
+            current = refreshCatalog();
+        }
+        return Optional.ofNullable(current.byKind().get(kind));
     }
 
     /**
-     * Get a resource definition by name.
+     * Get a resource definition by name. A name missing from the disk cache triggers a new fetch.
      *
      * @param name The name
      * @return The resource definition if it exists
      */
     public Optional<ApiResource> getResourceDefinitionByName(String name) {
-        return listResourceDefinitions().stream()
-                .filter(resource -> resource.getNames().contains(name))
-                .findFirst();
+        Catalog current = getCatalog();
+        if (!current.byName().containsKey(name) && current.fromCache()) {
+            current = refreshCatalog();
+        }
+        return Optional.ofNullable(current.byName().get(name));
     }
 
     /**
@@ -78,11 +119,209 @@ public class ApiResourcesService {
      * @return The allowed resources
      */
     public List<Resource> filterNotAllowedResourceTypes(List<Resource> resources) {
-        List<String> allowedKinds =
-                listResourceDefinitions().stream().map(ApiResource::getKind).toList();
+        Catalog current = getCatalog();
+        if (current.fromCache()
+                && resources.stream().anyMatch(resource -> !current.byKind().containsKey(resource.getKind()))) {
+            return filterNotAllowedResourceTypes(resources, refreshCatalog());
+        }
+        return filterNotAllowedResourceTypes(resources, current);
+    }
+
+    /** Ignore the cached resource definitions and fetch them again on next use. */
+    public void refreshResourceDefinitions() {
+        synchronized (this) {
+            refresh = true;
+            catalog = null;
+        }
+    }
 
+    /**
+     * Get the resources whose kind is not in the given catalog.
+     *
+     * @param resources The resources
+     * @param catalog The catalog
+     * @return The not allowed resources
+     */
+    private static List<Resource> filterNotAllowedResourceTypes(List<Resource> resources, Catalog catalog) {
         return resources.stream()
-                .filter(resource -> !allowedKinds.contains(resource.getKind()))
+                .filter(resource -> !catalog.byKind().containsKey(resource.getKind()))
                 .toList();
     }
+
+    /**
+     * Get the resource definitions catalog, loading it on first call.
+     *
+     * @return The catalog
+     */
+    private Catalog getCatalog() {
+        Catalog current = catalog;
+        if (current == null) {
+            synchronized (this) {
+                current = catalog;
+                if (current == null) {
+                    current = loadCatalog();
+                    catalog = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Fetch the catalog again, bypassing the disk cache.
+     *
+     * @return The catalog
+     */
+    private synchronized Catalog refreshCatalog() {
+        if (catalog == null || catalog.fromCache()) {
+            refresh = true;
+            catalog = loadCatalog();
+        }
+        return catalog;
+    }
+
+    /**
+     * Load the catalog from the disk cache if it is still fresh, from the API otherwise.
+     *
+     * @return The catalog
+     */
+    private Catalog loadCatalog() {
+        Duration ttl = kafkactlProperties.getApiResourcesCacheTtl();
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return Catalog.of(loginService.authorized(resourceClient::listResourceDefinitions), false);
+        }
+
+        File cacheFile = getCacheFile();
+        Optional<ApiResourcesCache> cached = readCache(cacheFile);
+        long now = System.currentTimeMillis();
+
+        if (!refresh
+                && cached.isPresent()
+                && cached.get().getFetchedAt() != null
+                && now - cached.get().getFetchedAt() < ttl.toMillis()) {
+            return Catalog.of(cached.get().getResources(), true);
+        }
+
+        String knownEtag = cached.map(ApiResourcesCache::getEtag).orElse(null);
+        String etag = knownEtag;
+        List<ApiResource> resources;
+        try {
+            HttpResponse<List<ApiResource>> response = loginService.authorized(
+                    token -> resourceClient.listResourceDefinitionsIfNoneMatch(token, knownEtag));
+            if (response.getStatus() == HttpStatus.NOT_MODIFIED && cached.isPresent()) {
+                resources = cached.get().getResources();
+            } else {
+                resources = response.getBody().orElse(List.of());
+                etag = response.getHeaders().get(HttpHeaders.ETAG);
+            }
+        } catch (HttpClientResponseException e) {
+            if (e.getStatus() != HttpStatus.NOT_MODIFIED || cached.isEmpty()) {
+                throw e;
+            }
+            resources = cached.get().getResources();
+        }
+
+        writeCache(
+                cacheFile,
+                ApiResourcesCache.builder()
+                        .api(kafkactlProperties.getApi())
+                        .etag(etag)
+                        .fetchedAt(now)
+                        .resources(resources)
+                        .build());
+
+        refresh = false;
+        return Catalog.of(resources, false);
+    }
+
+    /**
+     * Get the cache file of the current API and user token.
+     *
+     * @return The cache file
+     */
+    private File getCacheFile() {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest((kafkactlProperties.getApi() + "\n" + kafkactlProperties.getUserToken())
+                            .getBytes(StandardCharsets.UTF_8));
+            return Path.of(
+                            kafkactlProperties.getConfigDirectory(),
+                            CACHE_DIRECTORY,
+                            CACHE_FILE_PREFIX + HexFormat.of().formatHex(hash, 0, 16) + ".json")
+                    .toFile();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Read the cache file. An unreadable cache, or a cache of another API, is ignored.
+     *
+     * @param cacheFile The cache file
+     * @return The cached resource definitions
+     */
+    private Optional<ApiResourcesCache> readCache(File cacheFile) {
+        if (!cacheFile.exists()) {
+            return Optional.empty();
+        }
+
+        try {
+            ApiResourcesCache cached = new ObjectMapper()
+                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                    .readValue(cacheFile, ApiResourcesCache.class);
+            return Optional.ofNullable(cached)
+                    .filter(cache -> cache.getResources() != null
+                            && Objects.equals(cache.getApi(), kafkactlProperties.getApi()));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Write the cache file. A failure to write only disables the cache.
+     *
+     * @param cacheFile The cache file
+     * @param cache The resource definitions to cache
+     */
+    private void writeCache(File cacheFile, ApiResourcesCache cache) {
+        try {
+            Files.createDirectories(cacheFile.getParentFile().toPath());
+            new ObjectMapper().writeValue(cacheFile, cache);
+        } catch (IOException e) {
+            // The cache is an optimization only
+        }
+    }
+
+    /**
+     * Resource definitions, indexed by kind and by name.
+     *
+     * @param resources The resource definitions
+     * @param byKind The resource definitions by kind
+     * @param byName The resource definitions by name and alias
+     * @param fromCache Whether the resource definitions come from the disk cache
+     */
+    private record Catalog(
+            List<ApiResource> resources,
+            Map<String, ApiResource> byKind,
+            Map<String, ApiResource> byName,
+            boolean fromCache) {
+        /**
+         * Build the catalog. When several definitions share a kind or a name, the first one wins.
+         *
+         * @param resources The resource definitions
+         * @param fromCache Whether the resource definitions come from the disk cache
+         * @return The catalog
+         */
+        static Catalog of(List<ApiResource> resources, boolean fromCache) {
+            Map<String, ApiResource> byKind = new HashMap<>();
+            Map<String, ApiResource> byName = new HashMap<>();
+            resources.forEach(resource -> {
+                byKind.putIfAbsent(resource.getKind(), resource);
+                if (resource.getNames() != null) {
+                    resource.getNames().forEach(name -> byName.putIfAbsent(name, resource));
+                }
+            });
+            return new Catalog(List.copyOf(resources), byKind, byName, fromCache);
+        }
+    }
 }
@@ -18,15 +18,22 @@
  */
 package com.michelin.kafkactl.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.michelin.kafkactl.model.ApiResource;
+import com.michelin.kafkactl.model.LabelSelector;
+import com.michelin.kafkactl.model.ListOptions;
 import com.michelin.kafkactl.model.Output;
 import com.michelin.kafkactl.model.Resource;
 import com.michelin.kafkactl.model.Status;
+import com.michelin.kafkactl.model.WatchEvent;
 import com.michelin.kafkactl.model.format.AgoFormat;
+import com.michelin.kafkactl.model.format.BytesFormat;
 import com.michelin.kafkactl.model.format.DefaultFormat;
 import com.michelin.kafkactl.model.format.NullSkippingRepresenter;
+import com.michelin.kafkactl.model.format.NumberFormat;
 import com.michelin.kafkactl.model.format.OutputFormatStrategy;
 import com.michelin.kafkactl.model.format.PeriodFormat;
 import com.michelin.kafkactl.property.KafkactlProperties;
@@ -36,12 +43,22 @@ import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.nodes.Tag;
@@ -52,6 +69,13 @@ import picocli.CommandLine.Model.CommandSpec;
 /** Format service. */
 @Singleton
 public class FormatService {
+    private static final int TABLE_SAMPLE_SIZE = 1000;
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+    // Yaml instances are not thread-safe, so each thread reuses its own configured instance
+    private static final ThreadLocal<Yaml> YAML_DUMPER = ThreadLocal.withInitial(FormatService::createYaml);
     private final List<String> defaults =
             List.of("KIND:/kind", "NAME:/metadata/name", "AGE:/metadata/creationTimestamp%AGO");
 
@@ -68,10 +92,124 @@ public class FormatService {
      * @param commandSpec The command spec used to print the output
      */
     public void displayList(String kind, List<Resource> resources, Output output, CommandSpec commandSpec) {
-        if (output.equals(Output.TABLE)) {
-            printTable(kind, resources, commandSpec);
-        } else if (List.of(Output.YAML, Output.YML).contains(output)) {
-            printYaml(resources, commandSpec);
+        displayList(kind, resources, output, null, commandSpec);
+    }
+
+    /**
+     * Display a list of resources, with custom columns.
+     *
+     * @param kind The kind of resource
+     * @param resources The list of resources
+     * @param output The type of display
+     * @param columns The custom columns, or null to display the configured ones
+     * @param commandSpec The command spec used to print the output
+     */
+    public void displayList(
+            String kind, List<Resource> resources, Output output, List<String> columns, CommandSpec commandSpec) {
+        display(kind, resources.iterator(), output, columns, commandSpec);
+    }
+
+    /**
+     * Display resources one by one as they are read, without holding them all in memory. The kind is the one of the
+     * first resource.
+     *
+     * @param resources The non-empty resources
+     * @param output The type of display
+     * @param commandSpec The command spec used to print the output
+     */
+    public void displayStream(Iterator<Resource> resources, Output output, CommandSpec commandSpec) {
+        displayStream(resources, output, null, commandSpec);
+    }
+
+    /**
+     * Display resources one by one as they are read, with custom columns.
+     *
+     * @param resources The non-empty resources
+     * @param output The type of display
+     * @param columns The custom columns, or null to display the configured ones
+     * @param commandSpec The command spec used to print the output
+     */
+    public void displayStream(
+            Iterator<Resource> resources, Output output, List<String> columns, CommandSpec commandSpec) {
+        Resource first = resources.next();
+        Iterator<Resource> all = Stream.concat(
+                        Stream.of(first),
+                        StreamSupport.stream(
+                                Spliterators.spliteratorUnknownSize(resources, Spliterator.ORDERED), false))
+                .iterator();
+
+        display(first.getKind(), all, output, columns, commandSpec);
+    }
+
+    /**
+     * Display resources in the given output format.
+     *
+     * @param kind The kind of resources
+     * @param resources The resources
+     * @param output The type of display
+     * @param columns The custom columns, or null to display the configured ones
+     * @param commandSpec The command spec used to print the output
+     */
+    private void display(
+            String kind, Iterator<Resource> resources, Output output, List<String> columns, CommandSpec commandSpec) {
+        switch (output) {
+            case TABLE -> printTable(kind, resources, columns, commandSpec);
+            case YAML, YML -> printYaml(resources, commandSpec);
+            case JSON -> printJson(resources, commandSpec);
+            case NDJSON -> printNdjson(resources, commandSpec);
+            case CSV -> printDelimited(
+                    PrettyTextTableColumn.parse(tableFormats(kind, columns)), resources, ',', commandSpec);
+            case TSV -> printDelimited(
+                    PrettyTextTableColumn.parse(tableFormats(kind, columns)), resources, '\t', commandSpec);
+        }
+    }
+
+    /**
+     * Display the changes of watched resources. Tables and delimited values get a leading EVENT column, and other
+     * formats wrap each resource in an object with its event type.
+     *
+     * @param kind The kind of resources
+     * @param events The events
+     * @param output The type of display
+     * @param columns The custom columns, or null to display the configured ones
+     * @param commandSpec The command spec used to print the output
+     */
+    public void displayEvents(
+            String kind, List<WatchEvent> events, Output output, List<String> columns, CommandSpec commandSpec) {
+        if (output == Output.TABLE || output == Output.CSV || output == Output.TSV) {
+            Map<Resource, WatchEvent.Type> types = new IdentityHashMap<>();
+            events.forEach(event -> types.put(event.resource(), event.type()));
+            List<PrettyTextTableColumn> leading =
+                    List.of(new PrettyTextTableColumn(0, "EVENT", resource -> types.get(resource).name()));
+            List<Resource> resources = events.stream().map(WatchEvent::resource).toList();
+
+            if (output == Output.TABLE) {
+                PrettyTextTable ptt = new PrettyTextTable(leading, tableFormats(kind, columns), resources);
+                commandSpec.commandLine().getOut().println(ptt);
+            } else {
+                printDelimited(
+                        PrettyTextTableColumn.parse(leading, tableFormats(kind, columns)),
+                        resources.iterator(),
+                        output == Output.CSV ? ',' : '\t',
+                        commandSpec);
+            }
+            return;
+        }
+
+        Iterator<Map<String, Object>> wrapped = events.stream()
+                .map(event -> {
+                    Map<String, Object> wrapper = new LinkedHashMap<>();
+                    wrapper.put("type", event.type().name());
+                    wrapper.put("object", event.resource());
+                    return wrapper;
+                })
+                .iterator();
+
+        switch (output) {
+            case YAML, YML -> printYaml(wrapped, commandSpec);
+            case JSON -> printJson(wrapped, commandSpec);
+            case NDJSON -> printNdjson(wrapped, commandSpec);
+            default -> throw new IllegalStateException("Unexpected output " + output + ".");
         }
     }
 
@@ -95,9 +233,27 @@ public class FormatService {
      * @param commandSpec The command spec used to print the output
      */
     public void displayError(HttpClientResponseException exception, String kind, String name, CommandSpec commandSpec) {
+        displayError(exception, kind, name, null, commandSpec);
+    }
+
+    /**
+     * Display an error for a given particular resource kind in a namespace E.g., get in all namespaces
+     *
+     * @param exception The HTTP response error
+     * @param kind The resource kind
+     * @param name The resource name
+     * @param namespace The namespace, or null if none
+     * @param commandSpec The command spec used to print the output
+     */
+    public void displayError(
+            HttpClientResponseException exception,
+            String kind,
+            String name,
+            String namespace,
+            CommandSpec commandSpec) {
         Optional<Status> statusOptional = exception.getResponse().getBody(Status.class);
         String prettyKind = prettifyKind(kind);
-        String prettyName = prettifyName(name);
+        String prettyName = prettifyName(name) + (namespace != null ? " in namespace \"" + namespace + "\"" : "");
 
         if (statusOptional.isPresent()
                 && statusOptional.get().getDetails() != null
@@ -209,34 +365,214 @@ public class FormatService {
     }
 
     /**
-     * Print the list of resources to table format.
+     * Display that no resource matches a label selector.
+     *
+     * @param kind The resource kind
+     * @param selector The label selector
+     * @param commandSpec The command spec used to print the output
+     */
+    public void displayNoResource(String kind, LabelSelector selector, CommandSpec commandSpec) {
+        commandSpec
+                .commandLine()
+                .getOut()
+                .println("No " + prettifyKind(kind).toLowerCase() + " matches selector \"" + selector + "\".");
+    }
+
+    /**
+     * Display that no resource matches the label and field selectors of list options.
+     *
+     * @param kind The resource kind
+     * @param options The list options
+     * @param commandSpec The command spec used to print the output
+     */
+    public void displayNoResource(String kind, ListOptions options, CommandSpec commandSpec) {
+        List<String> selectors = new ArrayList<>();
+        if (options.getSelector() != null) {
+            selectors.add("selector \"" + options.getSelector() + "\"");
+        }
+        if (options.getFieldSelector() != null) {
+            selectors.add("field selector \"" + options.getFieldSelector() + "\"");
+        }
+
+        commandSpec
+                .commandLine()
+                .getOut()
+                .println("No " + prettifyKind(kind).toLowerCase() + " matches " + String.join(" and ", selectors)
+                        + ".");
+    }
+
+    /**
+     * Print the resources to table format. The layout of the table is decided from its first rows, up to the sample
+     * size: the columns empty in all of them are hidden, and the other ones are sized from them. Small listings are
+     * printed at once, and larger ones are streamed.
      *
      * @param kind The kind of resources
-     * @param resources The list of resources
+     * @param resources The resources
+     * @param columns The custom columns, or null to display the configured ones
      * @param commandSpec The command spec used to print the output
      */
-    private void printTable(String kind, List<Resource> resources, CommandSpec commandSpec) {
+    private void printTable(String kind, Iterator<Resource> resources, List<String> columns, CommandSpec commandSpec) {
+        List<String> formats = tableFormats(kind, columns);
+
+        List<Resource> sample = new ArrayList<>();
+        while (sample.size() <= TABLE_SAMPLE_SIZE && resources.hasNext()) {
+            sample.add(resources.next());
+        }
+
+        if (sample.size() <= TABLE_SAMPLE_SIZE) {
+            PrettyTextTable ptt = new PrettyTextTable(formats, sample);
+            commandSpec.commandLine().getOut().println(ptt);
+            return;
+        }
+
+        StreamingTextTable table =
+                new StreamingTextTable(formats, TABLE_SAMPLE_SIZE, commandSpec.commandLine().getOut());
+        sample.forEach(table::add);
+        resources.forEachRemaining(table::add);
+        table.close();
+    }
+
+    /**
+     * Get the table columns of a kind of resources.
+     *
+     * @param kind The kind of resources
+     * @param columns The custom columns, or null to get the configured ones
+     * @return The column formats
+     */
+    public List<String> tableFormats(String kind, List<String> columns) {
+        if (columns != null) {
+            return columns;
+        }
+
         String hyphenatedKind = StringConvention.HYPHENATED.format(kind);
-        List<String> formats = kafkactlProperties.getTableFormat().getOrDefault(hyphenatedKind, defaults);
+        return kafkactlProperties.getTableFormat().getOrDefault(hyphenatedKind, defaults);
+    }
+
+    /**
+     * Print the resources as delimited values, with a header row of the column names. Each row is written as soon as
+     * its resource is read, and every column is kept, even when empty, so all the rows have the same fields.
+     *
+     * @param columns The columns
+     * @param resources The resources
+     * @param delimiter The delimiter of the values
+     * @param commandSpec The command spec used to print the output
+     */
+    private void printDelimited(
+            List<PrettyTextTableColumn> columns,
+            Iterator<Resource> resources,
+            char delimiter,
+            CommandSpec commandSpec) {
+        PrintWriter out = commandSpec.commandLine().getOut();
+        StringBuilder line = new StringBuilder();
+        for (PrettyTextTableColumn column : columns) {
+            appendDelimited(line, column.header, delimiter);
+        }
+        out.println(line);
 
-        PrettyTextTable ptt = new PrettyTextTable(formats, resources);
-        commandSpec.commandLine().getOut().println(ptt);
+        while (resources.hasNext()) {
+            Resource resource = resources.next();
+            line.setLength(0);
+            for (PrettyTextTableColumn column : columns) {
+                appendDelimited(line, column.value(resource), delimiter);
+            }
+            out.println(line);
+        }
+        out.flush();
     }
 
     /**
-     * Print the list of resources to yaml format.
+     * Append a value to a line of delimited values. Values holding the delimiter, a quote or a line break are quoted,
+     * with their quotes doubled, as in RFC 4180.
      *
-     * @param resources The list of resources
+     * @param line The line
+     * @param value The value
+     * @param delimiter The delimiter of the values
+     */
+    private static void appendDelimited(StringBuilder line, String value, char delimiter) {
+        if (!line.isEmpty()) {
+            line.append(delimiter);
+        }
+
+        boolean quoted = false;
+        for (int i = 0; i < value.length() && !quoted; i++) {
+            char c = value.charAt(i);
+            quoted = c == delimiter || c == '"' || c == '\n' || c == '\r';
+        }
+
+        if (quoted) {
+            line.append('"').append(value.replace("\"", "\"\"")).append('"');
+        } else {
+            line.append(value);
+        }
+    }
+
+    /**
+     * Print the resources to yaml format, one document at a time. Each document is flushed as soon as it is emitted.
+     *
+     * @param resources The resources
      * @param commandSpec The command spec used to print the output
      */
-    private void printYaml(List<Resource> resources, CommandSpec commandSpec) {
+    private void printYaml(Iterator<?> resources, CommandSpec commandSpec) {
+        Yaml yaml = YAML_DUMPER.get();
+        PrintWriter out = commandSpec.commandLine().getOut();
+        resources.forEachRemaining(resource -> {
+            yaml.dump(resource, out);
+            out.flush();
+        });
+        out.println();
+    }
+
+    /**
+     * Create the yaml dumper of resources.
+     *
+     * @return The yaml dumper
+     */
+    private static Yaml createYaml() {
         DumperOptions options = new DumperOptions();
         options.setExplicitStart(true);
         options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
         Representer representer = new NullSkippingRepresenter(new DumperOptions());
         representer.addClassTag(Resource.class, Tag.MAP);
-        Yaml yaml = new Yaml(representer, options);
-        commandSpec.commandLine().getOut().println(yaml.dumpAll(resources.iterator()));
+        return new Yaml(representer, options);
+    }
+
+    /**
+     * Print the resources as a JSON array, written by a streaming generator.
+     *
+     * @param resources The resources
+     * @param commandSpec The command spec used to print the output
+     */
+    private void printJson(Iterator<?> resources, CommandSpec commandSpec) {
+        PrintWriter out = commandSpec.commandLine().getOut();
+        try (JsonGenerator generator = JSON_MAPPER.createGenerator(out).useDefaultPrettyPrinter()) {
+            generator.writeStartArray();
+            while (resources.hasNext()) {
+                generator.writeObject(resources.next());
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        out.println();
+    }
+
+    /**
+     * Print the resources as newline-delimited JSON, one resource per line, flushed as soon as it is written.
+     *
+     * @param resources The resources
+     * @param commandSpec The command spec used to print the output
+     */
+    private void printNdjson(Iterator<?> resources, CommandSpec commandSpec) {
+        try (JsonGenerator generator = JSON_MAPPER.createGenerator(commandSpec.commandLine().getOut())) {
+            generator.setRootValueSeparator(null);
+            while (resources.hasNext()) {
+                generator.writeObject(resources.next());
+                generator.writeRaw(System.lineSeparator());
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -262,7 +598,7 @@ public class FormatService {
 
     /** Pretty text table. */
     public static class PrettyTextTable {
-        private final List<PrettyTextTableColumn> columns = new ArrayList<>();
+        private final List<PrettyTextTableColumn> columns;
         private final List<String[]> rows = new ArrayList<>();
 
         /**
@@ -272,37 +608,28 @@ public class FormatService {
          * @param resources The list of resources
          */
         public PrettyTextTable(List<String> formats, List<Resource> resources) {
+            this(List.of(), formats, resources);
+        }
+
+        /**
+         * Constructor with columns displayed before the formatted ones.
+         *
+         * @param leading The leading columns
+         * @param formats The list of formats
+         * @param resources The list of resources
+         */
+        PrettyTextTable(List<PrettyTextTableColumn> leading, List<String> formats, List<Resource> resources) {
             // 1. Prepare header columns
-            formats.forEach(item -> {
-                String[] elements = item.split(":");
-                if (elements.length != 2) {
-                    throw new IllegalStateException("Expected line with format 'NAME:JSONPOINTER[%TRANSFORM]', but got "
-                            + Arrays.toString(elements) + " instead.");
-                }
-                columns.add(new PrettyTextTableColumn(columns.isEmpty() ? 0 : 2, elements));
-            });
+            columns = PrettyTextTableColumn.parse(leading, formats);
 
             // 2. Prepare rows and update column sizes
-            ObjectMapper mapper = new ObjectMapper();
-            resources.forEach(resource -> {
-                JsonNode node = mapper.valueToTree(resource);
-                rows.add(columns.stream().map(column -> column.transform(node)).toArray(String[]::new));
-            });
+            resources.forEach(resource -> rows.add(
+                    columns.stream().map(column -> column.transform(resource)).toArray(String[]::new)));
         }
 
         @Override
         public String toString() {
-            // Determine which columns have at least one non-empty value
-            List<Integer> nonEmptyColumnIndices = IntStream.range(0, columns.size())
-                    .filter(i -> rows.stream().anyMatch(row -> StringUtils.isNotEmpty(row[i])))
-                    .boxed()
-                    .toList();
-
-            // If all columns are empty, fall back to showing all columns
-            if (nonEmptyColumnIndices.isEmpty()) {
-                nonEmptyColumnIndices =
-                        IntStream.range(0, columns.size()).boxed().toList();
-            }
+            List<Integer> nonEmptyColumnIndices = PrettyTextTableColumn.nonEmptyColumnIndices(columns, rows);
 
             Help.Column[] sizedColumns = nonEmptyColumnIndices.stream()
                     .map(columns::get)
@@ -322,43 +649,239 @@ public class FormatService {
 
             return textTable.toString();
         }
+    }
+
+    /**
+     * Text table written row by row. The sampled rows, up to the sample size, decide the layout as in a
+     * {@link PrettyTextTable}: the columns empty in all of them are hidden, and the other ones are sized from them. The
+     * sampled rows are then written, and the following rows are written in small batches as they are added, so the
+     * memory used does not depend on the number of rows.
+     *
+     * <p>A table of up to the sample size rows is therefore laid out the same way as a {@link PrettyTextTable}. Values
+     * of the following rows in a hidden column are not displayed.
+     */
+    public static class StreamingTextTable {
+        private static final int ROW_BATCH_SIZE = 64;
+        private static final Help.ColorScheme COLOR_SCHEME = Help.defaultColorScheme(Help.Ansi.AUTO);
+        private final List<PrettyTextTableColumn> columns;
+        private final int sampleSize;
+        private final PrintWriter writer;
+        private final List<String[]> sample = new ArrayList<>();
+        private List<PrettyTextTableColumn> visibleColumns;
+        private Help.Column[] sizedColumns;
+        private Help.TextTable batch;
+        private int batchSize;
+
+        /**
+         * Constructor.
+         *
+         * @param formats The list of formats
+         * @param sampleSize The maximum number of rows used to lay out the columns
+         * @param writer The writer to print to
+         */
+        public StreamingTextTable(List<String> formats, int sampleSize, PrintWriter writer) {
+            this.columns = PrettyTextTableColumn.parse(formats);
+            this.sampleSize = sampleSize;
+            this.writer = writer;
+        }
+
+        /**
+         * Add a row to the table.
+         *
+         * @param resource The resource of the row
+         */
+        public void add(Resource resource) {
+            if (visibleColumns != null) {
+                addRow(visibleColumns.stream()
+                        .map(column -> column.value(resource))
+                        .toArray(String[]::new));
+                return;
+            }
 
-        static class PrettyTextTableColumn {
-            private final String header;
-            private final int indent;
-            private int size = -1;
-            private OutputFormatStrategy outputFormat;
-
-            public PrettyTextTableColumn(int indent, String... elements) {
-                this.header = elements[0];
-                this.indent = indent;
-
-                String[] field = elements[1].split("%");
-                if (field.length > 1) {
-                    switch (field[1]) {
-                        case "AGO":
-                            this.outputFormat = new AgoFormat(field[0]);
-                            break;
-                        case "PERIOD":
-                            this.outputFormat = new PeriodFormat(field[0]);
-                            break;
-                        default:
-                            break;
-                    }
-                } else {
-                    this.outputFormat = new DefaultFormat(field[0]);
+            sample.add(columns.stream().map(column -> column.transform(resource)).toArray(String[]::new));
+            if (sample.size() >= sampleSize) {
+                writeSample();
+            }
+        }
+
+        /** Write the rows not written yet, if any, and end the table with an empty line. */
+        public void close() {
+            if (visibleColumns == null) {
+                writeSample();
+            }
+            flushBatch();
+            writer.println();
+            writer.flush();
+        }
+
+        /** Lay out the columns from the sample, and write the header and the sampled rows. */
+        private void writeSample() {
+            List<Integer> visibleIndices = PrettyTextTableColumn.nonEmptyColumnIndices(columns, sample);
+            visibleColumns = visibleIndices.stream().map(columns::get).toList();
+            sizedColumns = visibleColumns.stream()
+                    .map(column -> new Help.Column(column.size, column.indent, Help.Column.Overflow.SPAN))
+                    .toArray(Help.Column[]::new);
+
+            addRow(visibleColumns.stream().map(column -> column.header).toArray(String[]::new));
+            sample.forEach(row ->
+                    addRow(visibleIndices.stream().map(i -> row[i]).toArray(String[]::new)));
+            sample.clear();
+            flushBatch();
+        }
+
+        /**
+         * Add a row to the current batch, and write the batch once full. A value longer than its column spans over the
+         * following ones, as in a {@link PrettyTextTable}.
+         *
+         * @param row The values of the visible columns of the row
+         */
+        private void addRow(String[] row) {
+            if (batch == null) {
+                batch = Help.TextTable.forColumns(COLOR_SCHEME, sizedColumns);
+            }
+            batch.addRowValues(row);
+            if (++batchSize >= ROW_BATCH_SIZE) {
+                flushBatch();
+            }
+        }
+
+        /** Write the rows of the current batch, if any. */
+        private void flushBatch() {
+            if (batch != null) {
+                writer.print(batch);
+                writer.flush();
+                batch = null;
+                batchSize = 0;
+            }
+        }
+    }
+
+    static class PrettyTextTableColumn {
+        private final String header;
+        private final int indent;
+        private final boolean fixed;
+        private int size = -1;
+        private OutputFormatStrategy outputFormat;
+
+        public PrettyTextTableColumn(int indent, String... elements) {
+            this.header = elements[0];
+            this.indent = indent;
+
+            String[] field = elements[1].split("%");
+            if (field.length > 1) {
+                switch (field[1]) {
+                    case "AGO":
+                        this.outputFormat = new AgoFormat(field[0]);
+                        break;
+                    case "PERIOD":
+                        this.outputFormat = new PeriodFormat(field[0]);
+                        break;
+                    case "BYTES":
+                        this.outputFormat = new BytesFormat(field[0]);
+                        break;
+                    case "NUMBER":
+                        this.outputFormat = new NumberFormat(field[0]);
+                        break;
+                    case "DURATION":
+                        this.outputFormat = new PeriodFormat(field[0], true);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown transform \"" + field[1]
+                                + "\", expected one of AGO, PERIOD, BYTES, NUMBER or DURATION.");
                 }
+            } else {
+                this.outputFormat = new DefaultFormat(field[0]);
+            }
 
-                // Size should consider headers
-                this.size = Math.max(this.size, this.header.length() + indent);
+            // A fixed width overrides the size of the values
+            this.fixed = elements.length > 2;
+            if (fixed) {
+                this.size = Integer.parseInt(elements[2].trim()) + indent;
             }
 
-            public String transform(JsonNode node) {
-                String output = this.outputFormat.display(node);
-                // Check size for later
+            // Size should consider headers
+            this.size = Math.max(this.size, this.header.length() + indent);
+        }
+
+        PrettyTextTableColumn(int indent, String header, OutputFormatStrategy outputFormat) {
+            this.header = header;
+            this.indent = indent;
+            this.fixed = false;
+            this.outputFormat = outputFormat;
+            this.size = header.length() + indent;
+        }
+
+        public String transform(Resource resource) {
+            String output = value(resource);
+            // Check size for later
+            if (!fixed) {
                 size = Math.max(size, output.length() + indent);
-                return output;
             }
+            return output;
+        }
+
+        /**
+         * Get the value of the column for a resource, without sizing the column.
+         *
+         * @param resource The resource
+         * @return The value
+         */
+        String value(Resource resource) {
+            return this.outputFormat.display(resource);
+        }
+
+        /**
+         * Build the columns from their formats.
+         *
+         * @param formats The list of formats
+         * @return The columns
+         */
+        static List<PrettyTextTableColumn> parse(List<String> formats) {
+            return parse(List.of(), formats);
+        }
+
+        /**
+         * Build the columns from their formats, after the given leading columns.
+         *
+         * @param leading The leading columns
+         * @param formats The list of formats
+         * @return The columns
+         */
+        static List<PrettyTextTableColumn> parse(List<PrettyTextTableColumn> leading, List<String> formats) {
+            List<PrettyTextTableColumn> columns = new ArrayList<>(leading);
+            formats.forEach(item -> {
+                String[] elements = item.split(":");
+                if ((elements.length != 2 && elements.length != 3)
+                        || (elements.length == 3 && !elements[2].trim().matches("\\d+"))) {
+                    throw new IllegalStateException(
+                            "Expected line with format 'NAME:JSONPOINTER[%TRANSFORM][:WIDTH]', but got "
+                                    + Arrays.toString(elements) + " instead.");
+                }
+                columns.add(new PrettyTextTableColumn(columns.isEmpty() ? 0 : 2, elements));
+            });
+            return columns;
+        }
+
+        /**
+         * Get the indices of the columns having at least one non-empty value, or all of them if all columns are empty.
+         *
+         * @param columns The columns
+         * @param rows The rows
+         * @return The indices of the columns to display
+         */
+        static List<Integer> nonEmptyColumnIndices(List<PrettyTextTableColumn> columns, List<String[]> rows) {
+            // Determine which columns have at least one non-empty value
+            List<Integer> nonEmptyColumnIndices = IntStream.range(0, columns.size())
+                    .filter(i -> rows.stream().anyMatch(row -> StringUtils.isNotEmpty(row[i])))
+                    .boxed()
+                    .toList();
+
+            // If all columns are empty, fall back to showing all columns
+            if (nonEmptyColumnIndices.isEmpty()) {
+                nonEmptyColumnIndices =
+                        IntStream.range(0, columns.size()).boxed().toList();
+            }
+            return nonEmptyColumnIndices;
         }
     }
 }
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.michelin.kafkactl.model.ApplyJournal;
+import com.michelin.kafkactl.model.Resource;
+import com.michelin.kafkactl.property.KafkactlProperties;
+import io.micronaut.core.annotation.ReflectiveAccess;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Journal service.
+ *
+ * <p>Keep, per context and namespace, the hash of the last successfully applied version of each resource.
+ */
+@Singleton
+public class JournalService {
+    private static final String JOURNAL_DIRECTORY = "journal";
+    private static final ObjectMapper CANONICAL_MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    @Inject
+    @ReflectiveAccess
+    private KafkactlProperties kafkactlProperties;
+
+    /**
+     * Read the journal of a namespace. A journal written for another context is ignored.
+     *
+     * @param namespace The namespace
+     * @return The resource hashes by key
+     */
+    public Map<String, String> readJournal(String namespace) {
+        File journalFile = getJournalFile(namespace);
+        if (!journalFile.exists()) {
+            return new HashMap<>();
+        }
+
+        try {
+            ApplyJournal journal = new ObjectMapper()
+                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                    .readValue(journalFile, ApplyJournal.class);
+            if (journal == null || journal.getHashes() == null || !getContext().equals(journal.getContext())) {
+                return new HashMap<>();
+            }
+            return new HashMap<>(journal.getHashes());
+        } catch (IOException e) {
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Write the journal of a namespace.
+     *
+     * @param namespace The namespace
+     * @param hashes The resource hashes by key
+     * @throws IOException Any exception during the write
+     */
+    public void writeJournal(String namespace, Map<String, String> hashes) throws IOException {
+        File journalFile = getJournalFile(namespace);
+        Files.createDirectories(journalFile.getParentFile().toPath());
+        new ObjectMapper()
+                .writeValue(
+                        journalFile,
+                        ApplyJournal.builder()
+                                .context(getContext())
+                                .hashes(hashes)
+                                .build());
+    }
+
+    /**
+     * Get the journal key of a resource.
+     *
+     * @param resource The resource
+     * @return The key
+     */
+    public static String key(Resource resource) {
+        return resource.getKind() + "/" + resource.getMetadata().getName();
+    }
+
+    /**
+     * Hash a prepared resource. Properties and map entries are sorted, so the hash does not depend on the order of
+     * the YAML fields.
+     *
+     * @param resource The resource
+     * @return The hash
+     */
+    public static String hash(Resource resource) {
+        try {
+            return sha256(CANONICAL_MAPPER.writeValueAsString(resource));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Get the fingerprint of the current context.
+     *
+     * @return The fingerprint
+     */
+    private String getContext() {
+        return sha256(kafkactlProperties.getApi() + "\n" + kafkactlProperties.getUserToken());
+    }
+
+    /**
+     * Get the journal file of a namespace in the current API.
+     *
+     * @param namespace The namespace
+     * @return The journal file
+     */
+    private File getJournalFile(String namespace) {
+        return Path.of(
+                        kafkactlProperties.getConfigDirectory(),
+                        JOURNAL_DIRECTORY,
+                        sha256(kafkactlProperties.getApi() + "\n" + namespace) + ".json")
+                .toFile();
+    }
+
+    /**
+     * Compute the SHA-256 hex digest of a value.
+     *
+     * @param value The value
+     * @return The digest
+     */
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of()
+                    .formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -32,19 +32,28 @@ import jakarta.inject.Singleton;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Optional;
+import java.util.function.Function;
 import picocli.CommandLine.Model.CommandSpec;
 
 /** Login service. */
 @Singleton
 public class LoginService {
     private static final String UNEXPECTED_ERROR = "Unexpected error occurred:";
+    private static final String LOGIN_USER = "gitlab";
+    private static final Duration DEFAULT_TOKEN_EXPIRY_MARGIN = Duration.ofSeconds(60);
     private final KafkactlProperties kafkactlProperties;
     private final ClusterResourceClient clusterResourceClient;
     private final File jwtFile;
-    private String accessToken;
+    private volatile String accessToken;
+    private String attemptedAuthorization;
+    private String renewedAuthorization;
+    private boolean renewedAuthorizationAccepted;
 
     /**
      * Constructor.
@@ -81,7 +90,7 @@ public class LoginService {
      */
     public boolean doAuthenticate(CommandSpec commandSpec, boolean verbose) {
         return isAuthenticated(commandSpec, verbose)
-                || login(commandSpec, "gitlab", kafkactlProperties.getUserToken(), verbose);
+                || login(commandSpec, LOGIN_USER, kafkactlProperties.getUserToken(), verbose);
     }
 
     /**
@@ -99,6 +108,24 @@ public class LoginService {
 
             ObjectMapper objectMapper = new ObjectMapper();
             BearerAccessRefreshToken token = objectMapper.readValue(jwtFile, BearerAccessRefreshToken.class);
+
+            // Trust the local expiry of the token, unless it is close
+            Optional<JwtContent> jwtContent = decodeAccessToken(token.getAccessToken());
+            if (jwtContent.isPresent() && isLocallyValid(jwtContent.get())) {
+                if (verbose) {
+                    Date expiry = new Date(jwtContent.get().getExp() * 1000);
+                    commandSpec
+                            .commandLine()
+                            .getOut()
+                            .println("Authentication reused. Welcome "
+                                    + jwtContent.get().getSub() + "!");
+                    commandSpec.commandLine().getOut().println("Your session is valid until " + expiry + ".");
+                }
+
+                accessToken = token.getAccessToken();
+                return true;
+            }
+
             UserInfoResponse userInfo = clusterResourceClient.tokenInfo("Bearer " + token.getAccessToken());
             if (verbose) {
                 Date expiry = new Date(userInfo.getExp() * 1000);
@@ -160,8 +187,7 @@ public class LoginService {
             }
 
             try {
-                ObjectMapper objectMapper = new ObjectMapper();
-                objectMapper.writeValue(jwtFile, tokenResponse);
+                writeJwtFile(tokenResponse);
             } catch (IOException e) {
                 commandSpec.commandLine().getErr().println(String.format("%s %s.", UNEXPECTED_ERROR, e.getMessage()));
             }
@@ -177,6 +203,81 @@ public class LoginService {
         return false;
     }
 
+    /**
+     * Renew the authentication after the server rejected the given authorization. The renewal is attempted once per
+     * rejected authorization. A renewed authorization rejected before being accepted once is not renewed again, but one
+     * that expires after being accepted is, so long-running commands such as watches keep going. When another request
+     * already renewed the authentication, the new one is reused.
+     *
+     * @param rejectedAuthorization The authorization header rejected by the server
+     * @return true if a new authorization is available, false otherwise
+     */
+    public synchronized boolean renewAuthentication(String rejectedAuthorization) {
+        if (!getAuthorization().equals(rejectedAuthorization)) {
+            return true;
+        }
+
+        if (rejectedAuthorization.equals(attemptedAuthorization)
+                || (rejectedAuthorization.equals(renewedAuthorization) && !renewedAuthorizationAccepted)) {
+            return false;
+        }
+
+        attemptedAuthorization = rejectedAuthorization;
+        try {
+            BearerAccessRefreshToken tokenResponse = clusterResourceClient.login(UsernameAndPasswordRequest.builder()
+                    .username(LOGIN_USER)
+                    .password(kafkactlProperties.getUserToken())
+                    .build());
+
+            accessToken = tokenResponse.getAccessToken();
+            renewedAuthorization = getAuthorization();
+            renewedAuthorizationAccepted = false;
+            writeJwtFile(tokenResponse);
+            return true;
+        } catch (HttpClientResponseException e) {
+            return false;
+        } catch (IOException e) {
+            // The new token is still valid for this run
+            return true;
+        }
+    }
+
+    /**
+     * Send a request with the current authorization. When the server rejects it, renew the authentication once and
+     * replay the request.
+     *
+     * @param request The request, given the authorization header
+     * @param <T> The type of the response
+     * @return The response
+     */
+    public <T> T authorized(Function<String, T> request) {
+        String authorization = getAuthorization();
+        try {
+            return accepted(authorization, request.apply(authorization));
+        } catch (HttpClientResponseException e) {
+            if (e.getStatus() == HttpStatus.UNAUTHORIZED && renewAuthentication(authorization)) {
+                String renewed = getAuthorization();
+                return accepted(renewed, request.apply(renewed));
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Record that the server accepted an authorization, so it can be renewed once it expires.
+     *
+     * @param authorization The accepted authorization header
+     * @param response The response
+     * @param <T> The type of the response
+     * @return The response
+     */
+    private synchronized <T> T accepted(String authorization, T response) {
+        if (renewedAuthorization != null && renewedAuthorization.equals(authorization)) {
+            renewedAuthorizationAccepted = true;
+        }
+        return response;
+    }
+
     /**
      * Get the JWT info.
      *
@@ -192,6 +293,51 @@ public class LoginService {
                 Base64.getUrlDecoder().decode(authInfo.getAccessToken().split("\\.")[1]), JwtContent.class);
     }
 
+    /**
+     * Decode the payload of an access token.
+     *
+     * @param token The access token
+     * @return The JWT info, or empty if the token cannot be decoded
+     */
+    private Optional<JwtContent> decodeAccessToken(String token) {
+        try {
+            ObjectMapper objectMapper =
+                    new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+            return Optional.of(
+                    objectMapper.readValue(Base64.getUrlDecoder().decode(token.split("\\.")[1]), JwtContent.class));
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Check if the JWT is still valid, with a safety margin before its expiry.
+     *
+     * @param jwtContent The JWT info
+     * @return true if it is, false otherwise
+     */
+    private boolean isLocallyValid(JwtContent jwtContent) {
+        if (jwtContent.getExp() == null) {
+            return false;
+        }
+
+        Duration margin = kafkactlProperties.getTokenExpiryMargin() != null
+                ? kafkactlProperties.getTokenExpiryMargin()
+                : DEFAULT_TOKEN_EXPIRY_MARGIN;
+        return Instant.ofEpochSecond(jwtContent.getExp()).minus(margin).isAfter(Instant.now());
+    }
+
+    /**
+     * Write the JWT file.
+     *
+     * @param tokenResponse The token to write
+     * @throws IOException Any exception during the write
+     */
+    private void writeJwtFile(BearerAccessRefreshToken tokenResponse) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.writeValue(jwtFile, tokenResponse);
+    }
+
     /** If exists, delete JWT file. */
     public void deleteJwtFile() throws IOException {
         if (jwtFile.exists()) {
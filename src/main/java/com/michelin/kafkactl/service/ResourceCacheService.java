@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.michelin.kafkactl.model.Resource;
+import com.michelin.kafkactl.model.ResourceListCache;
+import com.michelin.kafkactl.property.KafkactlProperties;
+import io.micronaut.core.annotation.ReflectiveAccess;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Resource cache service.
+ *
+ * <p>Keep, per context, namespace, kind and listing, the last listed resources in a compressed file. Listings younger
+ * than the requested time-to-live are served from the file. Changing resources of a kind in a namespace drops the
+ * cached listings of this kind.
+ */
+@Singleton
+public class ResourceCacheService {
+    private static final String CACHE_DIRECTORY = "cache";
+    private static final String RESOURCES_DIRECTORY = "resources";
+    private static final String CACHE_FILE_EXTENSION = ".json.gz";
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    @Inject
+    @ReflectiveAccess
+    private KafkactlProperties kafkactlProperties;
+
+    /**
+     * Read a cached listing. A listing older than the time-to-live, or an unreadable one, is ignored.
+     *
+     * @param namespace The namespace
+     * @param kind The resource kind
+     * @param resourceName The resource name
+     * @param search The resource search parameters mapping
+     * @param ttl The time-to-live of the listing
+     * @return The cached resources
+     */
+    public Optional<List<Resource>> read(
+            String namespace, String kind, String resourceName, Map<String, String> search, Duration ttl) {
+        Path cacheFile = getCacheFile(namespace, kind, resourceName, search);
+        if (!Files.exists(cacheFile)) {
+            return Optional.empty();
+        }
+
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(cacheFile))) {
+            ResourceListCache cached = MAPPER.readValue(input, ResourceListCache.class);
+            if (cached == null || cached.getFetchedAt() == null || cached.getResources() == null) {
+                return Optional.empty();
+            }
+
+            long age = System.currentTimeMillis() - cached.getFetchedAt();
+            return age >= 0 && age < ttl.toMillis() ? Optional.of(cached.getResources()) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Write a listing. The file is written aside, then moved, so a concurrent read never sees it partially written. A
+     * failure to write only leaves the listing uncached.
+     *
+     * @param namespace The namespace
+     * @param kind The resource kind
+     * @param resourceName The resource name
+     * @param search The resource search parameters mapping
+     * @param resources The listed resources
+     */
+    public void write(
+            String namespace, String kind, String resourceName, Map<String, String> search, List<Resource> resources) {
+        Path cacheFile = getCacheFile(namespace, kind, resourceName, search);
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Path temporaryFile = Files.createTempFile(cacheFile.getParent(), null, null);
+            try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(temporaryFile))) {
+                MAPPER.writeValue(
+                        output,
+                        ResourceListCache.builder()
+                                .fetchedAt(System.currentTimeMillis())
+                                .resources(resources)
+                                .build());
+            } catch (IOException e) {
+                Files.deleteIfExists(temporaryFile);
+                return;
+            }
+            Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The cache is an optimization only
+        }
+    }
+
+    /**
+     * Drop the cached listings of a kind in a namespace.
+     *
+     * @param namespace The namespace
+     * @param kind The resource kind
+     */
+    public void invalidate(String namespace, String kind) {
+        Path kindDirectory = getNamespaceDirectory(namespace).resolve(kind);
+        if (!Files.isDirectory(kindDirectory)) {
+            return;
+        }
+
+        try (Stream<Path> cacheFiles = Files.list(kindDirectory)) {
+            cacheFiles.forEach(cacheFile -> {
+                try {
+                    Files.deleteIfExists(cacheFile);
+                } catch (IOException e) {
+                    // An entry that cannot be dropped expires with its time-to-live
+                }
+            });
+        } catch (IOException e) {
+            // An entry that cannot be dropped expires with its time-to-live
+        }
+    }
+
+    /**
+     * Get the cache file of a listing in the current context.
+     *
+     * @param namespace The namespace
+     * @param kind The resource kind
+     * @param resourceName The resource name
+     * @param search The resource search parameters mapping
+     * @return The cache file
+     */
+    private Path getCacheFile(String namespace, String kind, String resourceName, Map<String, String> search) {
+        String listing = resourceName + "\n" + (search != null ? new TreeMap<>(search) : Map.of());
+        return getNamespaceDirectory(namespace).resolve(kind).resolve(sha256(listing) + CACHE_FILE_EXTENSION);
+    }
+
+    /**
+     * Get the cache directory of a namespace in the current context.
+     *
+     * @param namespace The namespace
+     * @return The cache directory
+     */
+    private Path getNamespaceDirectory(String namespace) {
+        return Path.of(
+                kafkactlProperties.getConfigDirectory(),
+                CACHE_DIRECTORY,
+                RESOURCES_DIRECTORY,
+                sha256(kafkactlProperties.getApi() + "\n" + kafkactlProperties.getUserToken() + "\n" + namespace));
+    }
+
+    /**
+     * Compute the first half of the SHA-256 hex digest of a value.
+     *
+     * @param value The value
+     * @return The digest
+     */
+    private static String sha256(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
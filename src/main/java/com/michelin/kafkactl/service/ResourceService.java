@@ -27,18 +27,34 @@ import static com.michelin.kafkactl.util.constant.ResourceKind.SUBJECT;
 import static com.michelin.kafkactl.util.constant.ResourceKind.SUBJECT_CONFIG_STATE;
 import static com.michelin.kafkactl.util.constant.ResourceKind.VAULT_RESPONSE;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.michelin.kafkactl.client.ClusterResourceClient;
 import com.michelin.kafkactl.client.NamespacedResourceClient;
+import com.michelin.kafkactl.client.ResourceStreamClient;
 import com.michelin.kafkactl.model.ApiResource;
+import com.michelin.kafkactl.model.ListOptions;
 import com.michelin.kafkactl.model.Output;
 import com.michelin.kafkactl.model.Resource;
 import com.michelin.kafkactl.model.SubjectCompatibility;
+import com.michelin.kafkactl.model.WatchEvent;
+import com.michelin.kafkactl.model.format.ResourcePointer;
 import com.michelin.kafkactl.model.request.DeleteResourceRequest;
+import com.michelin.kafkactl.property.KafkactlProperties;
+import com.michelin.kafkactl.util.CloseableIterator;
+import com.michelin.kafkactl.util.JsonProjection;
+import com.michelin.kafkactl.util.ParallelExecutor;
+import com.michelin.kafkactl.util.PublisherInputStream;
+import com.michelin.kafkactl.util.PublisherIterator;
+import com.michelin.kafkactl.util.TopKSelector;
 import io.confluent.kafka.schemaregistry.avro.AvroSchema;
 import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.annotation.ReflectiveAccess;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
@@ -46,9 +62,11 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.io.File;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import picocli.CommandLine;
 import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.ParameterException;
@@ -66,6 +84,12 @@ public class ResourceService {
     public static final String ACL = "AccessControlEntry";
     public static final String SCHEMA = "Schema";
     public static final String OTHER = "Other";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectMapper PROJECTION_MAPPER =
+            JsonMapper.builder().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+    private static final int DEFAULT_LIST_PARALLELISM = 8;
+    private static final String NAMESPACE_COLUMN = "NAMESPACE:/metadata/namespace";
+    private static final int STREAM_WINDOW = 256;
 
     @Inject
     @ReflectiveAccess
@@ -75,6 +99,10 @@ public class ResourceService {
     @ReflectiveAccess
     private ClusterResourceClient nonNamespacedClient;
 
+    @Inject
+    @ReflectiveAccess
+    private ResourceStreamClient streamClient;
+
     @Inject
     @ReflectiveAccess
     private LoginService loginService;
@@ -91,6 +119,14 @@ public class ResourceService {
     @ReflectiveAccess
     private ApiResourcesService apiResourcesService;
 
+    @Inject
+    @ReflectiveAccess
+    private ResourceCacheService resourceCacheService;
+
+    @Inject
+    @ReflectiveAccess
+    private KafkactlProperties kafkactlProperties;
+
     /**
      * List all resources of the given types.
      *
@@ -109,15 +145,43 @@ public class ResourceService {
             Map<String, String> search,
             Output output,
             CommandSpec commandSpec) {
-        // Get a single kind of resources
+        return list(apiResources, namespace, resourceName, search, output, ListOptions.none(), commandSpec);
+    }
+
+    /**
+     * List all resources of the given types, sorted and limited per type.
+     *
+     * @param apiResources The resource type
+     * @param namespace The namespace
+     * @param search The search param to filter resources
+     * @param resourceName The resource name
+     * @param output The output format
+     * @param options The sort and limit options
+     * @param commandSpec The command that triggered the action
+     * @return A map of resource type and list of resources
+     */
+    public int list(
+            List<ApiResource> apiResources,
+            String namespace,
+            String resourceName,
+            Map<String, String> search,
+            Output output,
+            ListOptions options,
+            CommandSpec commandSpec) {
+        // Get a single kind of resources, streamed from the response unless cached
         if (apiResources.size() == 1) {
-            try {
-                List<Resource> resources =
-                        listResourcesWithType(apiResources.getFirst(), namespace, resourceName, search);
-                if (!resources.isEmpty()) {
-                    formatService.displayList(resources.getFirst().getKind(), resources, output, commandSpec);
-                } else {
+            try (CloseableIterator<Resource> resources =
+                    readResourcesWithType(apiResources.getFirst(), namespace, resourceName, search, options)) {
+                if (!resources.hasNext()) {
                     formatService.displayNoResource(apiResources, search, resourceName, commandSpec);
+                    return 0;
+                }
+
+                Iterator<Resource> selected = select(resources, options);
+                if (selected.hasNext()) {
+                    formatService.displayStream(selected, output, options.getColumns(), commandSpec);
+                } else {
+                    formatService.displayNoResource(apiResources.getFirst().getKind(), options, commandSpec);
                 }
                 return 0;
             } catch (HttpClientResponseException exception) {
@@ -126,26 +190,287 @@ public class ResourceService {
             }
         }
 
-        // Get all
-        int errors = apiResources.stream()
-                .map(apiResource -> {
+        // Get all, fetching the kinds concurrently and displaying them in catalog order
+        List<Listing> listings =
+                ParallelExecutor.map(apiResources, listParallelism(), commandSpec, (apiResource, spec) -> {
                     try {
-                        List<Resource> resources = listResourcesWithType(apiResource, namespace, resourceName, null);
-                        if (!resources.isEmpty()) {
-                            formatService.displayList(resources.getFirst().getKind(), resources, output, commandSpec);
-                        }
-                        return 0;
+                        return new Listing(
+                                listResourcesWithType(
+                                        apiResource, namespace, resourceName, null, options.getCacheTtl()),
+                                null);
                     } catch (HttpClientResponseException exception) {
-                        formatService.displayError(exception, apiResource.getKind(), resourceName, commandSpec);
-                        return 1;
+                        return new Listing(List.of(), exception);
                     }
-                })
-                .mapToInt(value -> value)
-                .sum();
+                });
+
+        int errors = 0;
+        for (int i = 0; i < apiResources.size(); i++) {
+            Listing listing = listings.get(i);
+            if (listing.exception() != null) {
+                formatService.displayError(
+                        listing.exception(), apiResources.get(i).getKind(), resourceName, commandSpec);
+                errors++;
+            } else {
+                List<Resource> selected = new ArrayList<>();
+                select(listing.resources().iterator(), options).forEachRemaining(selected::add);
+                if (!selected.isEmpty()) {
+                    formatService.displayList(
+                            selected.getFirst().getKind(), selected, output, options.getColumns(), commandSpec);
+                }
+            }
+        }
 
         return errors > 0 ? 1 : 0;
     }
 
+    /**
+     * List the resources of a type in all the namespaces. The namespaces are listed once, then their resources are
+     * fetched concurrently and displayed together, after a NAMESPACE column. A namespace whose resources cannot be
+     * fetched is reported, and does not prevent the others from being displayed.
+     *
+     * @param apiResource The namespaced resource type
+     * @param resourceName The resource name
+     * @param output The output format
+     * @param options The filter, sort and limit options, applied to the resources of all the namespaces
+     * @param commandSpec The command that triggered the action
+     * @return 0 if the resources of all the namespaces were listed, 1 otherwise
+     */
+    public int listAllNamespaces(
+            ApiResource apiResource, String resourceName, Output output, ListOptions options, CommandSpec commandSpec) {
+        Optional<ApiResource> namespaceResource = apiResourcesService.getResourceDefinitionByKind(NAMESPACE);
+        if (namespaceResource.isEmpty()) {
+            commandSpec.commandLine().getErr().println("The server does not have resource type " + NAMESPACE + ".");
+            return 1;
+        }
+
+        List<String> namespaces;
+        try {
+            namespaces = listResourcesWithType(namespaceResource.get(), null, "*", null, options.getCacheTtl()).stream()
+                    .map(namespace -> namespace.getMetadata().getName())
+                    .toList();
+        } catch (HttpClientResponseException exception) {
+            formatService.displayError(exception, NAMESPACE, "*", commandSpec);
+            return 1;
+        }
+
+        List<Listing> listings =
+                ParallelExecutor.map(namespaces, listParallelism(), commandSpec, (namespace, spec) -> {
+                    try {
+                        return new Listing(
+                                listResourcesWithType(
+                                        apiResource, namespace, resourceName, null, options.getCacheTtl()),
+                                null);
+                    } catch (HttpClientResponseException exception) {
+                        return new Listing(List.of(), exception);
+                    }
+                });
+
+        int errors = 0;
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < namespaces.size(); i++) {
+            Listing listing = listings.get(i);
+            if (listing.exception() != null) {
+                formatService.displayError(
+                        listing.exception(), apiResource.getKind(), resourceName, namespaces.get(i), commandSpec);
+                errors++;
+            } else {
+                String namespace = namespaces.get(i);
+                listing.resources().forEach(resource -> {
+                    if (resource.getMetadata().getNamespace() == null) {
+                        resource.getMetadata().setNamespace(namespace);
+                    }
+                    resources.add(resource);
+                });
+            }
+        }
+
+        List<Resource> selected = new ArrayList<>();
+        select(resources.iterator(), options).forEachRemaining(selected::add);
+        if (!selected.isEmpty()) {
+            List<String> columns = new ArrayList<>();
+            columns.add(NAMESPACE_COLUMN);
+            columns.addAll(formatService.tableFormats(apiResource.getKind(), options.getColumns()));
+            formatService.displayList(apiResource.getKind(), selected, output, columns, commandSpec);
+        } else if (errors == 0 && resources.isEmpty()) {
+            formatService.displayNoResource(List.of(apiResource), null, resourceName, commandSpec);
+        } else if (errors == 0) {
+            formatService.displayNoResource(apiResource.getKind(), options, commandSpec);
+        }
+
+        return errors > 0 ? 1 : 0;
+    }
+
+    /**
+     * Get the maximum number of listings fetched concurrently by a single command.
+     *
+     * @return The list parallelism
+     */
+    private int listParallelism() {
+        return kafkactlProperties.getListParallelism() != null
+                ? kafkactlProperties.getListParallelism()
+                : DEFAULT_LIST_PARALLELISM;
+    }
+
+    /**
+     * Read the resources of a single type to list. Cached listings are read from the cache, other ones are streamed
+     * from the response, and decoded with the values of the custom columns only if any.
+     *
+     * @param apiResource The resource type
+     * @param namespace The namespace
+     * @param resourceName The resource name
+     * @param search The resource search parameters mapping
+     * @param options The list options
+     * @return An iterator over the resources, to close if not fully consumed
+     */
+    private CloseableIterator<Resource> readResourcesWithType(
+            ApiResource apiResource,
+            String namespace,
+            String resourceName,
+            Map<String, String> search,
+            ListOptions options) {
+        if (options.getCacheTtl() != null) {
+            return CloseableIterator.of(
+                    listResourcesWithType(apiResource, namespace, resourceName, search, options.getCacheTtl())
+                            .iterator());
+        }
+
+        List<String> projection = options.projection();
+        return projection != null
+                ? streamResourcesWithType(apiResource, namespace, resourceName, search, projection)
+                : streamResourcesWithType(apiResource, namespace, resourceName, search);
+    }
+
+    /**
+     * Filter, sort and limit resources. Resources are filtered as they are read. Sorted and limited resources are
+     * selected with a bounded heap, limited ones are read until the limit only, and unsorted ones keep being streamed.
+     *
+     * @param resources The resources
+     * @param options The filter, sort and limit options
+     * @return The selected resources
+     */
+    private static Iterator<Resource> select(Iterator<Resource> resources, ListOptions options) {
+        Stream<Resource> selected =
+                StreamSupport.stream(Spliterators.spliteratorUnknownSize(resources, Spliterator.ORDERED), false);
+        if (options.getSelector() != null) {
+            selected = selected.filter(options.getSelector());
+        }
+
+        if (options.getFieldSelector() != null) {
+            selected = selected.filter(options.getFieldSelector());
+        }
+
+        if (options.getSortBy() != null) {
+            Comparator<Resource> comparator =
+                    ResourcePointer.compile(options.getSortBy()).comparator(options.isDescending());
+            return options.getLimit() != null
+                    ? TopKSelector.select(selected.iterator(), comparator, options.getLimit()).iterator()
+                    : selected.sorted(comparator).iterator();
+        }
+
+        if (options.getLimit() != null) {
+            selected = selected.limit(options.getLimit());
+        }
+
+        return selected.iterator();
+    }
+
+    /**
+     * Watch the resources of a type, polling them at a fixed interval. The first listing is displayed in full, and the
+     * following ones as the resources added, modified and removed since the previous listing. Listings are conditional
+     * on the entity tag of the previous one, so unchanged listings are neither sent nor compared. The watch stops on
+     * interruption or on the first error.
+     *
+     * @param apiResource The resource type
+     * @param namespace The namespace
+     * @param resourceName The resource name
+     * @param search The search param to filter resources
+     * @param output The output format
+     * @param options The filter, sort and limit options
+     * @param interval The interval between two listings
+     * @param commandSpec The command that triggered the action
+     * @return 0 if the watch was interrupted, 1 if a listing failed
+     */
+    public int watch(
+            ApiResource apiResource,
+            String namespace,
+            String resourceName,
+            Map<String, String> search,
+            Output output,
+            ListOptions options,
+            Duration interval,
+            CommandSpec commandSpec) {
+        Map<String, Observed> snapshot = null;
+        String etag = null;
+
+        while (true) {
+            HttpResponse<List<Resource>> response;
+            try {
+                response = listResourcesWithTypeIfChanged(apiResource, namespace, resourceName, search, etag);
+            } catch (HttpClientResponseException exception) {
+                formatService.displayError(exception, commandSpec);
+                return 1;
+            }
+
+            if (response.getStatus() != HttpStatus.NOT_MODIFIED) {
+                etag = response.getHeaders().get(HttpHeaders.ETAG);
+                List<Resource> resources = new ArrayList<>();
+                select(response.getBody().orElse(List.of()).iterator(), options).forEachRemaining(resources::add);
+
+                Map<String, Observed> current = new LinkedHashMap<>();
+                resources.forEach(resource -> current.put(
+                        resource.getMetadata().getName(), new Observed(resource, MAPPER.valueToTree(resource))));
+
+                if (snapshot == null) {
+                    if (resources.isEmpty()) {
+                        formatService.displayNoResource(List.of(apiResource), search, resourceName, commandSpec);
+                    } else {
+                        formatService.displayList(
+                                apiResource.getKind(), resources, output, options.getColumns(), commandSpec);
+                    }
+                } else {
+                    List<WatchEvent> events = diffSnapshots(snapshot, current);
+                    if (!events.isEmpty()) {
+                        formatService.displayEvents(
+                                apiResource.getKind(), events, output, options.getColumns(), commandSpec);
+                    }
+                }
+                snapshot = current;
+            }
+
+            try {
+                Thread.sleep(interval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Compute the changes between two listings, by resource name.
+     *
+     * @param previous The previous listing
+     * @param current The current listing
+     * @return The added and modified resources in the current order, then the removed ones
+     */
+    private static List<WatchEvent> diffSnapshots(Map<String, Observed> previous, Map<String, Observed> current) {
+        List<WatchEvent> events = new ArrayList<>();
+        current.forEach((name, observed) -> {
+            Observed before = previous.get(name);
+            if (before == null) {
+                events.add(new WatchEvent(WatchEvent.Type.ADDED, observed.resource()));
+            } else if (!before.tree().equals(observed.tree())) {
+                events.add(new WatchEvent(WatchEvent.Type.MODIFIED, observed.resource()));
+            }
+        });
+        previous.forEach((name, observed) -> {
+            if (!current.containsKey(name)) {
+                events.add(new WatchEvent(WatchEvent.Type.DELETED, observed.resource()));
+            }
+        });
+        return events;
+    }
+
     /**
      * List all resources of given type.
      *
@@ -163,9 +488,169 @@ public class ResourceService {
         }
         queryParam.put("name", resourceName);
 
-        return apiResource.isNamespaced()
-                ? namespacedClient.list(namespace, apiResource.getPath(), resourceName, loginService.getAuthorization())
-                : nonNamespacedClient.list(loginService.getAuthorization(), apiResource.getPath(), queryParam);
+        return loginService.authorized(token -> apiResource.isNamespaced()
+                ? namespacedClient.list(namespace, apiResource.getPath(), resourceName, token)
+                : nonNamespacedClient.list(token, apiResource.getPath(), queryParam));
+    }
+
+    /**
+     * List all resources of given type, from the cache if it holds a listing younger than the given time-to-live. A
+     * listing fetched from the API is cached.
+     *
+     * @param apiResource The resource type
+     * @param namespace The namespace
+     * @param resourceName The resource name
+     * @param search The resource search parameters mapping
+     * @param cacheTtl The time-to-live of the cached listing, or null to fetch the resources
+     * @return A list of resources
+     */
+    public List<Resource> listResourcesWithType(
+            ApiResource apiResource,
+            String namespace,
+            String resourceName,
+            Map<String, String> search,
+            Duration cacheTtl) {
+        if (cacheTtl == null) {
+            return listResourcesWithType(apiResource, namespace, resourceName, search);
+        }
+
+        Optional<List<Resource>> cached =
+                resourceCacheService.read(namespace, apiResource.getKind(), resourceName, search, cacheTtl);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        List<Resource> resources = listResourcesWithType(apiResource, namespace, resourceName, search);
+        resourceCacheService.write(namespace, apiResource.getKind(), resourceName, search, resources);
+        return resources;
+    }
+
+    /**
+     * List all resources of given type, unless they did not change since the given entity tag.
+     *
+     * @param apiResource The resource type
+     * @param namespace The namespace
+     * @param resourceName The resource name
+     * @param search The resource search parameters mapping
+     * @param etag The entity tag of the previous listing, or null
+     * @return The response, with the resources or a "not modified" status
+     */
+    public HttpResponse<List<Resource>> listResourcesWithTypeIfChanged(
+            ApiResource apiResource,
+            String namespace,
+            String resourceName,
+            Map<String, String> search,
+            String etag) {
+        Map<String, String> queryParam = new HashMap<>();
+        if (search != null) {
+            queryParam.putAll(search);
+        }
+        queryParam.put("name", resourceName);
+
+        return loginService.authorized(token -> apiResource.isNamespaced()
+                ? namespacedClient.listIfChanged(namespace, apiResource.getPath(), resourceName, token, etag)
+                : nonNamespacedClient.listIfChanged(token, apiResource.getPath(), queryParam, etag));
+    }
+
+    /**
+     * Stream all resources of given type. The resources are decoded one by one as the response is read, and the
+     * request is sent right away so that authentication errors are raised here.
+     *
+     * @param apiResource The resource type
+     * @param namespace The namespace
+     * @param resourceName The resource name
+     * @param search The resource search parameters mapping
+     * @return An iterator over the resources, to close if not fully consumed
+     */
+    public PublisherIterator<Resource> streamResourcesWithType(
+            ApiResource apiResource, String namespace, String resourceName, Map<String, String> search) {
+        Map<String, String> queryParam = new HashMap<>();
+        if (search != null) {
+            queryParam.putAll(search);
+        }
+        queryParam.put("name", resourceName);
+
+        return loginService.authorized(token -> {
+            PublisherIterator<Resource> resources = new PublisherIterator<>(
+                    apiResource.isNamespaced()
+                            ? namespacedClient.stream(namespace, apiResource.getPath(), resourceName, token)
+                            : nonNamespacedClient.stream(token, apiResource.getPath(), queryParam),
+                    STREAM_WINDOW);
+            // Wait for the first item or error
+            resources.hasNext();
+            return resources;
+        });
+    }
+
+    /**
+     * Stream all resources of given type, decoding the values of the given JSON pointers only. The other values of the
+     * response body are skipped while it is parsed.
+     *
+     * @param apiResource The resource type
+     * @param namespace The namespace
+     * @param resourceName The resource name
+     * @param search The resource search parameters mapping
+     * @param pointers The JSON pointers of the values to decode
+     * @return An iterator over the projected resources, to close if not fully consumed
+     */
+    public CloseableIterator<Resource> streamResourcesWithType(
+            ApiResource apiResource,
+            String namespace,
+            String resourceName,
+            Map<String, String> search,
+            List<String> pointers) {
+        Map<String, String> queryParam = new HashMap<>();
+        if (search != null) {
+            queryParam.putAll(search);
+        }
+        queryParam.put("name", resourceName);
+
+        JsonProjection projection = new JsonProjection(pointers);
+        return loginService.authorized(token -> {
+            PublisherIterator<byte[]> chunks = new PublisherIterator<>(
+                    apiResource.isNamespaced()
+                            ? streamClient.streamBytes(namespace, apiResource.getPath(), resourceName, token)
+                            : streamClient.streamBytes(token, apiResource.getPath(), queryParam),
+                    STREAM_WINDOW);
+            // Wait for the start of the array or the error
+            return projection.readArray(new PublisherInputStream(chunks), PROJECTION_MAPPER, Resource.class);
+        });
+    }
+
+    /**
+     * List all resources of given type in a namespace, indexed by name.
+     *
+     * @param apiResource The resource type
+     * @param namespace The namespace
+     * @return The resources by name
+     */
+    public Map<String, Resource> listResourcesByName(ApiResource apiResource, String namespace) {
+        Map<String, Resource> resourcesByName = new HashMap<>();
+        listResourcesWithType(apiResource, namespace, "*", null)
+                .forEach(resource -> resourcesByName.put(resource.getMetadata().getName(), resource));
+        return resourcesByName;
+    }
+
+    /**
+     * Check if a desired resource matches its live version, comparing the spec and the labels.
+     *
+     * @param desired The desired resource
+     * @param live The live resource, if any
+     * @return true if applying the desired resource would not change anything, false otherwise
+     */
+    public static boolean isUnchanged(Resource desired, Resource live) {
+        if (live == null || live.getMetadata() == null) {
+            return false;
+        }
+
+        return Objects.equals(MAPPER.valueToTree(desired.getSpec()), MAPPER.valueToTree(live.getSpec()))
+                && Objects.equals(getLabels(desired), getLabels(live));
+    }
+
+    private static Map<String, String> getLabels(Resource resource) {
+        return resource.getMetadata().getLabels() != null
+                ? resource.getMetadata().getLabels()
+                : Map.of();
     }
 
     /**
@@ -179,9 +664,9 @@ public class ResourceService {
      */
     public Resource getSingleResourceWithType(
             ApiResource apiResource, String namespace, String resourceName, boolean throwError) {
-        HttpResponse<Resource> response = apiResource.isNamespaced()
-                ? namespacedClient.get(namespace, apiResource.getPath(), resourceName, loginService.getAuthorization())
-                : nonNamespacedClient.get(loginService.getAuthorization(), apiResource.getPath(), resourceName);
+        HttpResponse<Resource> response = loginService.authorized(token -> apiResource.isNamespaced()
+                ? namespacedClient.get(namespace, apiResource.getPath(), resourceName, token)
+                : nonNamespacedClient.get(token, apiResource.getPath(), resourceName));
 
         // Micronaut does not throw exception on 404, so produce a 404 manually
         if (response.getStatus().equals(HttpStatus.NOT_FOUND) && throwError) {
@@ -204,11 +689,13 @@ public class ResourceService {
     public HttpResponse<Resource> apply(
             ApiResource apiResource, String namespace, Resource resource, boolean dryRun, CommandSpec commandSpec) {
         try {
-            HttpResponse<Resource> response = apiResource.isNamespaced()
-                    ? namespacedClient.apply(
-                            namespace, apiResource.getPath(), loginService.getAuthorization(), resource, dryRun)
-                    : nonNamespacedClient.apply(
-                            loginService.getAuthorization(), apiResource.getPath(), resource, dryRun);
+            HttpResponse<Resource> response = loginService.authorized(token -> apiResource.isNamespaced()
+                    ? namespacedClient.apply(namespace, apiResource.getPath(), token, resource, dryRun)
+                    : nonNamespacedClient.apply(token, apiResource.getPath(), resource, dryRun));
+
+            if (!dryRun) {
+                resourceCacheService.invalidate(namespace, apiResource.getKind());
+            }
 
             String headerWarning = response.header(HEADER_WARNINGS);
             if (StringUtils.isNotEmpty(headerWarning)) {
@@ -249,17 +736,22 @@ public class ResourceService {
      */
     public boolean delete(ApiResource apiResource, DeleteResourceRequest request, CommandSpec commandSpec) {
         try {
-            DeleteResourceRequest authorizedRequest = request.withToken(loginService.getAuthorization());
-            HttpResponse<List<Resource>> response = apiResource.isNamespaced()
-                    ? namespacedClient.delete(authorizedRequest)
-                    : nonNamespacedClient.delete(
-                            loginService.getAuthorization(), apiResource.getPath(), request.name(), request.dryrun());
+            HttpResponse<List<Resource>> response = loginService.authorized(token -> apiResource.isNamespaced()
+                    ? namespacedClient.delete(request.withToken(token))
+                    : nonNamespacedClient.delete(token, apiResource.getPath(), request.name(), request.dryrun()));
 
             // Micronaut does not throw exception on 404, so produce a 404 manually
             if (response.getStatus().equals(HttpStatus.NOT_FOUND)) {
                 throw new HttpClientResponseException(response.reason(), response);
             }
 
+            if (!request.dryrun()) {
+                resourceCacheService.invalidate(request.namespace(), apiResource.getKind());
+                if (request.cascade()) {
+                    resourceCacheService.invalidate(request.namespace(), CONNECTOR);
+                }
+            }
+
             List<String> resourceNames = response.body().stream()
                     .map(deletionResponse -> deletionResponse.getMetadata().getName())
                     .toList();
@@ -291,8 +783,11 @@ public class ResourceService {
         int errors = apiResources.stream()
                 .map(apiResource -> {
                     try {
-                        List<Resource> resources = namespacedClient.importResources(
-                                namespace, apiResource.getPath(), loginService.getAuthorization(), name, dryRun);
+                        List<Resource> resources = loginService.authorized(token -> namespacedClient.importResources(
+                                namespace, apiResource.getPath(), token, name, dryRun));
+                        if (!dryRun) {
+                            resourceCacheService.invalidate(namespace, apiResource.getKind());
+                        }
                         if (!resources.isEmpty()) {
                             formatService.displayList(apiResource.getKind(), resources, TABLE, commandSpec);
                         } else {
@@ -325,7 +820,7 @@ public class ResourceService {
     public int deleteRecords(String namespace, String topic, boolean dryRun, CommandSpec commandSpec) {
         try {
             List<Resource> resources =
-                    namespacedClient.deleteRecords(loginService.getAuthorization(), namespace, topic, dryRun);
+                    loginService.authorized(token -> namespacedClient.deleteRecords(token, namespace, topic, dryRun));
             if (!resources.isEmpty()) {
                 formatService.displayList(DELETE_RECORDS_RESPONSE, resources, TABLE, commandSpec);
             } else {
@@ -351,8 +846,8 @@ public class ResourceService {
     public int resetOffsets(
             String namespace, String group, Resource resource, boolean dryRun, CommandSpec commandSpec) {
         try {
-            List<Resource> resources =
-                    namespacedClient.resetOffsets(loginService.getAuthorization(), namespace, group, resource, dryRun);
+            List<Resource> resources = loginService.authorized(
+                    token -> namespacedClient.resetOffsets(token, namespace, group, resource, dryRun));
             if (!resources.isEmpty()) {
                 formatService.displayList(CONSUMER_GROUP_RESET_OFFSET_RESPONSE, resources, TABLE, commandSpec);
             } else {
@@ -377,7 +872,7 @@ public class ResourceService {
     public int deleteGroup(String namespace, String group, boolean dryRun, CommandSpec commandSpec) {
         try {
             HttpResponse<?> response =
-                    namespacedClient.deleteGroup(loginService.getAuthorization(), namespace, group, dryRun);
+                    loginService.authorized(token -> namespacedClient.deleteGroup(token, namespace, group, dryRun));
 
             // Micronaut does not throw exception on 404, so produce a 404 manually
             if (response.getStatus().equals(HttpStatus.NOT_FOUND)) {
@@ -405,12 +900,27 @@ public class ResourceService {
      * @return 0 if the command succeeded, 1 otherwise
      */
     public int listGroups(String namespace, boolean external, Output output, CommandSpec commandSpec) {
+        return listGroups(namespace, external, output, null, commandSpec);
+    }
+
+    /**
+     * List all consumer groups for a namespace, with custom columns.
+     *
+     * @param namespace The namespace
+     * @param external List external consumer groups consuming topics owned by the namespace
+     * @param output The output format
+     * @param columns The custom columns, or null to display the configured ones
+     * @param commandSpec The command that triggered the action
+     * @return 0 if the command succeeded, 1 otherwise
+     */
+    public int listGroups(
+            String namespace, boolean external, Output output, List<String> columns, CommandSpec commandSpec) {
         try {
-            List<Resource> resources = external
-                    ? namespacedClient.listExternalGroups(loginService.getAuthorization(), namespace)
-                    : namespacedClient.listGroups(loginService.getAuthorization(), namespace);
+            List<Resource> resources = loginService.authorized(token -> external
+                    ? namespacedClient.listExternalGroups(token, namespace)
+                    : namespacedClient.listGroups(token, namespace));
             if (resources != null && !resources.isEmpty()) {
-                formatService.displayList(resources.getFirst().getKind(), resources, output, commandSpec);
+                formatService.displayList(resources.getFirst().getKind(), resources, output, columns, commandSpec);
             } else {
                 commandSpec.commandLine().getOut().println("No consumer group to display.");
             }
@@ -433,13 +943,15 @@ public class ResourceService {
     public Optional<Resource> changeConnectorState(
             String namespace, String connector, Resource changeConnectorState, CommandSpec commandSpec) {
         try {
-            HttpResponse<Resource> response = namespacedClient.changeConnectorState(
-                    namespace, connector, changeConnectorState, loginService.getAuthorization());
+            HttpResponse<Resource> response = loginService.authorized(
+                    token -> namespacedClient.changeConnectorState(namespace, connector, changeConnectorState, token));
 
             // Micronaut does not throw exception on 404, so produce a 404 manually
             if (response.getStatus().equals(HttpStatus.NOT_FOUND)) {
                 throw new HttpClientResponseException(response.reason(), response);
             }
+
+            resourceCacheService.invalidate(namespace, CONNECTOR);
             return response.getBody();
         } catch (HttpClientResponseException exception) {
             formatService.displayError(exception, CONNECTOR, connector, commandSpec);
@@ -468,8 +980,8 @@ public class ResourceService {
             config.put("compatibility", compatibility != null ? compatibility.name() : null);
             config.put("alias", alias);
 
-            HttpResponse<Resource> response =
-                    namespacedClient.updateSubjectConfig(namespace, subject, config, loginService.getAuthorization());
+            HttpResponse<Resource> response = loginService.authorized(
+                    token -> namespacedClient.updateSubjectConfig(namespace, subject, config, token));
 
             commandSpec
                     .commandLine()
@@ -492,8 +1004,8 @@ public class ResourceService {
      */
     public Optional<Resource> deleteSubjectConfig(String namespace, String subject, CommandSpec commandSpec) {
         try {
-            Optional<Resource> subjectConfig = namespacedClient
-                    .deleteSubjectConfig(namespace, subject, loginService.getAuthorization())
+            Optional<Resource> subjectConfig = loginService.authorized(
+                            token -> namespacedClient.deleteSubjectConfig(namespace, subject, token))
                     .getBody();
 
             commandSpec
@@ -519,7 +1031,7 @@ public class ResourceService {
     public int resetPassword(String namespace, String user, Output output, CommandSpec commandSpec) {
         try {
             HttpResponse<Resource> response =
-                    namespacedClient.resetPassword(namespace, user, loginService.getAuthorization());
+                    loginService.authorized(token -> namespacedClient.resetPassword(namespace, user, token));
 
             // Micronaut does not throw exception on 404, so produce a 404 manually
             if (response.getStatus().equals(HttpStatus.NOT_FOUND)) {
@@ -543,8 +1055,8 @@ public class ResourceService {
      */
     public int listAvailableVaultsConnectClusters(String namespace, CommandSpec commandSpec) {
         try {
-            List<Resource> availableConnectClusters =
-                    namespacedClient.listAvailableVaultsConnectClusters(namespace, loginService.getAuthorization());
+            List<Resource> availableConnectClusters = loginService.authorized(
+                    token -> namespacedClient.listAvailableVaultsConnectClusters(namespace, token));
             if (!availableConnectClusters.isEmpty()) {
                 formatService.displayList(CONNECT_CLUSTER, availableConnectClusters, TABLE, commandSpec);
             } else {
@@ -573,8 +1085,8 @@ public class ResourceService {
             final List<String> passwords,
             CommandSpec commandSpec) {
         try {
-            List<Resource> results = namespacedClient.vaultsOnConnectClusters(
-                    namespace, connectCluster, passwords, loginService.getAuthorization());
+            List<Resource> results = loginService.authorized(
+                    token -> namespacedClient.vaultsOnConnectClusters(namespace, connectCluster, passwords, token));
             formatService.displayList(VAULT_RESPONSE, results, TABLE, commandSpec);
             return 0;
         } catch (HttpClientResponseException exception) {
@@ -666,6 +1178,158 @@ public class ResourceService {
         return allResources;
     }
 
+    /**
+     * Split prepared resources into the phases they have to be applied in. Resources of a phase do not depend on each
+     * other, so they can be applied concurrently, but a phase must be complete before the next one starts.
+     *
+     * <p>Schemas with references keep their topological order, so each of them is a phase of its own. Connect clusters
+     * are applied before the other resources, such as the connectors running on them. A resource declared again, with
+     * the same kind and name, starts a new phase, so the versions of a resource are applied in file order.
+     *
+     * @param preparedResources The resources, as sorted by {@link #prepareResources(List, CommandSpec)}
+     * @return The resources grouped by phase, in order
+     */
+    public static List<List<Resource>> groupByPhase(List<Resource> preparedResources) {
+        List<Resource> orderedResources = new ArrayList<>();
+        List<Resource> otherResources = new ArrayList<>();
+        preparedResources.forEach(resource -> {
+            if (OTHER.equals(getPhase(resource))) {
+                otherResources.add(resource);
+            } else {
+                orderedResources.add(resource);
+            }
+        });
+        orderedResources.addAll(otherResources);
+
+        List<List<Resource>> phases = new ArrayList<>();
+        Set<String> phaseKeys = new HashSet<>();
+        String currentPhase = null;
+        for (Resource resource : orderedResources) {
+            String phase = getPhase(resource);
+            String key = resource.getKind() + "/" + resource.getMetadata().getName();
+            if (phases.isEmpty() || phase == null || !phase.equals(currentPhase) || !phaseKeys.add(key)) {
+                phases.add(new ArrayList<>());
+                phaseKeys.clear();
+                phaseKeys.add(key);
+            }
+            phases.getLast().add(resource);
+            currentPhase = phase;
+        }
+        return phases;
+    }
+
+    /**
+     * Split resources into the phases they have to be deleted in, the reverse of the order they are applied in: other
+     * resources, connect clusters, schemas, ACLs, role bindings, then namespaces. Resources of a phase do not depend on
+     * each other, so they can be deleted concurrently, but a phase must be complete before the next one starts.
+     *
+     * <p>A schema is deleted in an earlier phase than the schemas it references.
+     *
+     * @param resources The resources to delete
+     * @return The resources grouped by phase, in order
+     */
+    public static List<List<Resource>> groupByDeletionPhase(List<Resource> resources) {
+        Map<String, List<Resource>> resourcesByKind = resources.stream()
+                .collect(Collectors.groupingBy(resource ->
+                        List.of(NAMESPACE, ROLE_BINDING, ACL, SCHEMA, CONNECT_CLUSTER).contains(resource.getKind())
+                                ? resource.getKind()
+                                : OTHER));
+
+        List<List<Resource>> phases = new ArrayList<>();
+        phases.add(resourcesByKind.getOrDefault(OTHER, List.of()));
+        phases.add(resourcesByKind.getOrDefault(CONNECT_CLUSTER, List.of()));
+        phases.addAll(groupSchemasByDeletionPhase(resourcesByKind.getOrDefault(SCHEMA, List.of())));
+        phases.add(resourcesByKind.getOrDefault(ACL, List.of()));
+        phases.add(resourcesByKind.getOrDefault(ROLE_BINDING, List.of()));
+        phases.add(resourcesByKind.getOrDefault(NAMESPACE, List.of()));
+        return phases.stream().filter(phase -> !phase.isEmpty()).toList();
+    }
+
+    /**
+     * Split schemas into the phases they have to be deleted in. A schema referenced by other schemas is deleted in the
+     * phase following the last of them.
+     *
+     * @param schemas The schemas to delete
+     * @return The schemas grouped by phase, in order
+     */
+    private static List<List<Resource>> groupSchemasByDeletionPhase(List<Resource> schemas) {
+        Map<String, Set<String>> referrersBySubject = new HashMap<>();
+        schemas.forEach(schema -> {
+            if (schema.getSpec() != null && schema.getSpec().get(REFERENCES_FIELD) instanceof List<?> refs) {
+                refs.stream()
+                        .filter(ref -> ref instanceof Map<?, ?> reference && reference.containsKey("subject"))
+                        .map(ref -> ((Map<?, ?>) ref).get("subject").toString())
+                        .forEach(subject -> referrersBySubject
+                                .computeIfAbsent(subject, key -> new HashSet<>())
+                                .add(schema.getMetadata().getName()));
+            }
+        });
+
+        Map<String, Integer> depths = new HashMap<>();
+        List<List<Resource>> phases = new ArrayList<>();
+        schemas.forEach(schema -> {
+            int depth = deletionDepth(schema.getMetadata().getName(), referrersBySubject, depths, new HashSet<>());
+            while (phases.size() <= depth) {
+                phases.add(new ArrayList<>());
+            }
+            phases.get(depth).add(schema);
+        });
+        return phases;
+    }
+
+    /**
+     * Compute the deletion phase of a schema subject, that is the length of the longest chain of schemas referencing
+     * it.
+     *
+     * @param subject The schema subject
+     * @param referrersBySubject The subjects of the referencing schemas, by referenced subject
+     * @param depths The phases already computed, by subject
+     * @param visiting The currently visiting subjects
+     * @return The deletion phase
+     */
+    private static int deletionDepth(
+            String subject,
+            Map<String, Set<String>> referrersBySubject,
+            Map<String, Integer> depths,
+            Set<String> visiting) {
+        if (depths.containsKey(subject)) {
+            return depths.get(subject);
+        }
+
+        if (!visiting.add(subject)) {
+            throw new IllegalStateException("Cyclic dependency detected");
+        }
+
+        int depth = referrersBySubject.getOrDefault(subject, Set.of()).stream()
+                .mapToInt(referrer -> deletionDepth(referrer, referrersBySubject, depths, visiting) + 1)
+                .max()
+                .orElse(0);
+
+        visiting.remove(subject);
+        depths.put(subject, depth);
+        return depth;
+    }
+
+    /**
+     * Get the phase of a resource.
+     *
+     * @param resource The resource
+     * @return The phase, or null if the resource must be processed alone
+     */
+    private static String getPhase(Resource resource) {
+        if (SCHEMA.equals(resource.getKind())) {
+            return resource.getSpec() != null && resource.getSpec().get(REFERENCES_FIELD) instanceof List<?>
+                    ? null
+                    : SCHEMA;
+        }
+
+        if (CONNECT_CLUSTER.equals(resource.getKind())) {
+            return CONNECT_CLUSTER;
+        }
+
+        return List.of(NAMESPACE, ROLE_BINDING, ACL).contains(resource.getKind()) ? resource.getKind() : OTHER;
+    }
+
     /**
      * Prepare and sort schema resources based on their references.
      *
@@ -805,4 +1469,20 @@ public class ResourceService {
                             + ". Schema path must be relative to the CLI.");
         }
     }
+
+    /**
+     * Resources of a kind, or the error raised while listing them.
+     *
+     * @param resources The resources
+     * @param exception The error, or null if the listing succeeded
+     */
+    private record Listing(List<Resource> resources, HttpClientResponseException exception) {}
+
+    /**
+     * Resource of a watched listing, with its JSON tree to detect modifications.
+     *
+     * @param resource The resource
+     * @param tree The JSON tree of the resource
+     */
+    private record Observed(Resource resource, JsonNode tree) {}
 }
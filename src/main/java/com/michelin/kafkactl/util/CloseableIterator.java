@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.util;
+
+import java.util.Iterator;
+
+/**
+ * Iterator over a source to release when the remaining items are not needed.
+ *
+ * @param <T> The type of the items
+ */
+public interface CloseableIterator<T> extends Iterator<T>, AutoCloseable {
+    /** Release the source of the items. */
+    @Override
+    void close();
+
+    /**
+     * Wrap an iterator over items held in memory, with nothing to release.
+     *
+     * @param iterator The iterator
+     * @param <T> The type of the items
+     * @return The closeable iterator
+     */
+    static <T> CloseableIterator<T> of(Iterator<T> iterator) {
+        return new CloseableIterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+                // Nothing to release
+            }
+        };
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Projection of JSON documents on a set of JSON pointers. The values the pointers lead to are decoded, and any other
+ * value is skipped by the parser without being decoded, so reading a document costs in proportion to the projected
+ * values rather than to the whole document.
+ */
+public final class JsonProjection {
+    private final Node root = new Node();
+
+    /**
+     * Constructor.
+     *
+     * @param pointers The JSON pointers of the values to keep (e.g., /spec/configs/retention.ms)
+     */
+    public JsonProjection(Collection<String> pointers) {
+        for (String pointer : pointers) {
+            Node node = root;
+            if (!pointer.isEmpty()) {
+                for (String segment : pointer.substring(1).split("/", -1)) {
+                    node = node.children.computeIfAbsent(
+                            segment.replace("~1", "/").replace("~0", "~"), key -> new Node());
+                }
+            }
+            node.whole = true;
+        }
+    }
+
+    /**
+     * Read the elements of a JSON array, projected and converted one by one as they are iterated.
+     *
+     * @param input The JSON array
+     * @param mapper The mapper converting the projected elements
+     * @param type The type of the elements
+     * @param <T> The type of the elements
+     * @return An iterator over the elements, closing the input when closed
+     */
+    public <T> CloseableIterator<T> readArray(InputStream input, ObjectMapper mapper, Class<T> type) {
+        try {
+            JsonParser parser = mapper.createParser(input);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Expected a JSON array, but got " + parser.currentToken() + ".");
+            }
+            return new ArrayIterator<>(parser, mapper, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read the current value of a parser, projected.
+     *
+     * @param parser The parser, positioned on the first token of the value
+     * @return The projected value, as maps, lists and scalars
+     * @throws IOException Any exception during the read
+     */
+    public Object read(JsonParser parser) throws IOException {
+        return read(parser, root);
+    }
+
+    /**
+     * Read the current value of a parser, projected on a node of pointer segments.
+     *
+     * @param parser The parser, positioned on the first token of the value
+     * @param node The node
+     * @return The projected value, or null if the value has no projected child
+     * @throws IOException Any exception during the read
+     */
+    private static Object read(JsonParser parser, Node node) throws IOException {
+        if (node.whole) {
+            return parser.readValueAs(Object.class);
+        }
+
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                Node child = node.children.get(name);
+                parser.nextToken();
+                if (child == null) {
+                    parser.skipChildren();
+                } else {
+                    values.put(name, read(parser, child));
+                }
+            }
+            return values;
+        }
+
+        if (parser.currentToken() == JsonToken.START_ARRAY) {
+            List<Object> values = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                Node child = node.children.get(String.valueOf(values.size()));
+                if (child == null) {
+                    parser.skipChildren();
+                    values.add(null);
+                } else {
+                    values.add(read(parser, child));
+                }
+            }
+            return values;
+        }
+
+        // A scalar where the pointers expect an object or an array
+        return null;
+    }
+
+    /** Pointer segments, as a tree. */
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private boolean whole;
+    }
+
+    /**
+     * Iterator over the elements of a JSON array.
+     *
+     * @param <T> The type of the elements
+     */
+    private final class ArrayIterator<T> implements CloseableIterator<T> {
+        private final JsonParser parser;
+        private final ObjectMapper mapper;
+        private final Class<T> type;
+        private boolean pending;
+
+        /**
+         * Constructor.
+         *
+         * @param parser The parser, positioned on the start of the array
+         * @param mapper The mapper converting the projected elements
+         * @param type The type of the elements
+         */
+        private ArrayIterator(JsonParser parser, ObjectMapper mapper, Class<T> type) {
+            this.parser = parser;
+            this.mapper = mapper;
+            this.type = type;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!pending) {
+                try {
+                    JsonToken token = parser.nextToken();
+                    pending = token != null && token != JsonToken.END_ARRAY;
+                    if (!pending) {
+                        parser.close();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return pending;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            pending = false;
+            try {
+                return mapper.convertValue(read(parser), type);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
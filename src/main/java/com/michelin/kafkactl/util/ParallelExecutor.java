@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.util;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import picocli.CommandLine;
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Model.OptionSpec;
+import picocli.CommandLine.Model.PositionalParamSpec;
+
+/**
+ * Run tasks concurrently on virtual threads, bounded by a parallelism limit.
+ *
+ * <p>Each concurrent task prints to its own buffered copy of the command spec, with the same name, parent, usage
+ * message, options and parameters, so errors and usage help raised by a task refer to the right command. Buffers are
+ * flushed to the real command output in input order, as soon as all the previous tasks are done. The standard output of
+ * a task is flushed before its error output, so the standard output and the error output each stay the same as in a
+ * sequential run, but lines of the two may interleave differently on a terminal showing both.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParallelExecutor {
+    /**
+     * Apply a task to each item, with at most the given number of tasks running at the same time.
+     *
+     * @param items The items to process
+     * @param parallelism The maximum number of concurrent tasks
+     * @param commandSpec The command spec used to print the output
+     * @param task The task to apply, given the item and the command spec to print to
+     * @param <T> The type of the items
+     * @param <R> The type of the results
+     * @return The results, in input order
+     */
+    public static <T, R> List<R> map(
+            List<T> items, int parallelism, CommandSpec commandSpec, BiFunction<T, CommandSpec, R> task) {
+        if (parallelism <= 1 || items.size() <= 1) {
+            List<R> results = new ArrayList<>(items.size());
+            items.forEach(item -> results.add(task.apply(item, commandSpec)));
+            return results;
+        }
+
+        Semaphore permits = new Semaphore(parallelism);
+        List<BufferedOutput> outputs = new ArrayList<>(items.size());
+        List<Future<R>> futures = new ArrayList<>(items.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            items.forEach(item -> {
+                BufferedOutput output = new BufferedOutput(commandSpec);
+                outputs.add(output);
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return task.apply(item, output.getCommandSpec());
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            });
+
+            List<R> results = new ArrayList<>(items.size());
+            RuntimeException failure = null;
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    results.add(null);
+                    if (failure == null) {
+                        failure = unwrap(e);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for concurrent tasks.", e);
+                }
+                outputs.get(i).flushTo(commandSpec);
+            }
+
+            if (failure != null) {
+                throw failure;
+            }
+
+            return results;
+        }
+    }
+
+    /**
+     * Start a task on a virtual thread. The task is not bounded by any parallelism limit, so it is meant to be forked
+     * from a task run by {@link #map}, and joined before that task returns, so it runs under the same permit.
+     *
+     * @param task The task
+     * @param <T> The type of the result
+     * @return A supplier waiting for the result of the task, rethrowing its exception if any
+     */
+    public static <T> Supplier<T> fork(Supplier<T> task) {
+        FutureTask<T> future = new FutureTask<>(task::get);
+        Thread.ofVirtual().start(future);
+        return () -> {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                throw unwrap(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a concurrent task.", e);
+            }
+        };
+    }
+
+    /**
+     * Unwrap the exception thrown by a task.
+     *
+     * @param exception The execution exception
+     * @return The runtime exception to rethrow
+     */
+    private static RuntimeException unwrap(ExecutionException exception) {
+        if (exception.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+
+        if (exception.getCause() instanceof Error error) {
+            throw error;
+        }
+
+        return new IllegalStateException(exception.getCause());
+    }
+
+    /** Command spec printing to in-memory buffers. */
+    private static class BufferedOutput {
+        private final StringWriter out = new StringWriter();
+        private final StringWriter err = new StringWriter();
+        private final CommandSpec commandSpec;
+
+        /**
+         * Constructor.
+         *
+         * @param source The command spec to copy
+         */
+        BufferedOutput(CommandSpec source) {
+            CommandSpec copy = CommandSpec.wrapWithoutInspection(source.userObject())
+                    .name(source.name())
+                    .parent(source.parent())
+                    .usageMessage(source.usageMessage());
+            source.options().forEach(option -> copy.addOption(OptionSpec.builder(option).build()));
+            source.positionalParameters()
+                    .forEach(positional -> copy.addPositional(PositionalParamSpec.builder(positional).build()));
+
+            CommandLine commandLine = new CommandLine(copy);
+            commandLine.setColorScheme(source.commandLine().getColorScheme());
+            commandLine.setOut(new PrintWriter(out, true));
+            commandLine.setErr(new PrintWriter(err, true));
+            commandSpec = commandLine.getCommandSpec();
+        }
+
+        CommandSpec getCommandSpec() {
+            return commandSpec;
+        }
+
+        /**
+         * Write the buffered output to the given command spec, the standard output first.
+         *
+         * @param target The command spec to print to
+         */
+        void flushTo(CommandSpec target) {
+            if (!out.getBuffer().isEmpty()) {
+                target.commandLine().getOut().print(out);
+                target.commandLine().getOut().flush();
+            }
+
+            if (!err.getBuffer().isEmpty()) {
+                target.commandLine().getErr().print(err);
+                target.commandLine().getErr().flush();
+            }
+        }
+    }
+}
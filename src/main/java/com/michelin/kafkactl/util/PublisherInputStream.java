@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.util;
+
+import java.io.InputStream;
+
+/**
+ * Input stream over the chunks of bytes of a publisher, such as a response body read as it is received. Only the chunk
+ * being read and the window of the iterator are held in memory.
+ *
+ * <p>An error signaled by the publisher is rethrown by the read methods.
+ */
+public class PublisherInputStream extends InputStream {
+    private static final byte[] EMPTY = new byte[0];
+
+    private final PublisherIterator<byte[]> chunks;
+    private byte[] chunk = EMPTY;
+    private int position;
+
+    /**
+     * Constructor.
+     *
+     * @param chunks The chunks of bytes
+     */
+    public PublisherInputStream(PublisherIterator<byte[]> chunks) {
+        this.chunks = chunks;
+    }
+
+    @Override
+    public int read() {
+        if (!fill()) {
+            return -1;
+        }
+        return chunk[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+
+        if (!fill()) {
+            return -1;
+        }
+
+        int count = Math.min(length, chunk.length - position);
+        System.arraycopy(chunk, position, buffer, offset, count);
+        position += count;
+        return count;
+    }
+
+    /** Cancel the subscription, when the remaining bytes are not needed. */
+    @Override
+    public void close() {
+        chunks.close();
+    }
+
+    /**
+     * Move to the next non-empty chunk if the current one is fully read.
+     *
+     * @return true if there are bytes to read, false at the end of the stream
+     */
+    private boolean fill() {
+        while (position == chunk.length) {
+            if (!chunks.hasNext()) {
+                return false;
+            }
+            chunk = chunks.next();
+            position = 0;
+        }
+        return true;
+    }
+}
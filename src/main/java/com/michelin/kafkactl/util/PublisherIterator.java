@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.util;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Blocking iterator over a reactive publisher. A window of items is requested up front, and one more item each time one
+ * is consumed, so at most one window of items is held in memory, whatever the number of items published.
+ *
+ * <p>An error signaled by the publisher is rethrown by {@link #hasNext()}.
+ *
+ * @param <T> The type of the items
+ */
+public class PublisherIterator<T> implements CloseableIterator<T>, Subscriber<T> {
+    private static final Object COMPLETE = new Object();
+
+    private final int window;
+    private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+    private volatile Subscription subscription;
+    private Object next;
+
+    /**
+     * Constructor. Subscribes to the publisher.
+     *
+     * @param publisher The publisher
+     * @param window The maximum number of items requested but not consumed yet
+     */
+    public PublisherIterator(Publisher<T> publisher, int window) {
+        this.window = window;
+        publisher.subscribe(this);
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(window);
+    }
+
+    @Override
+    public void onNext(T item) {
+        signals.add(item);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        signals.add(new Failure(error));
+    }
+
+    @Override
+    public void onComplete() {
+        signals.add(COMPLETE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = signals.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new IllegalStateException("Interrupted while waiting for the next item.", e);
+            }
+        }
+
+        if (next instanceof Failure failure) {
+            if (failure.error() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(failure.error());
+        }
+
+        return next != COMPLETE;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        T item = (T) next;
+        next = null;
+        subscription.request(1);
+        return item;
+    }
+
+    /** Cancel the subscription, when the remaining items are not needed. */
+    @Override
+    public void close() {
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Error signaled by the publisher.
+     *
+     * @param error The error
+     */
+    private record Failure(Throwable error) {}
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/** Selection of the first items of an iteration in a given order, holding no more than the selected items. */
+public final class TopKSelector {
+    private TopKSelector() {}
+
+    /**
+     * Select the first k items in the given order. A bounded heap keeps the k best items seen so far, its head being
+     * the worst of them, so memory is O(k) whatever the number of items.
+     *
+     * @param items The items
+     * @param comparator The order of the items
+     * @param k The number of items to select
+     * @return The selected items, sorted
+     * @param <T> The type of the items
+     */
+    public static <T> List<T> select(Iterator<T> items, Comparator<? super T> comparator, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<T> heap = new PriorityQueue<>(k, comparator.reversed());
+        while (items.hasNext()) {
+            T item = items.next();
+            if (heap.size() < k) {
+                heap.add(item);
+            } else if (comparator.compare(item, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(item);
+            }
+        }
+
+        List<T> selected = new ArrayList<>(heap);
+        selected.sort(comparator);
+        return selected;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+/**
+ * Structural diff of two YAML node trees. The trees are walked side by side and the differences are reported as JSON
+ * Patch (RFC 6902) operations.
+ */
+public final class YamlTreeDiff {
+    private static final JsonNodeFactory FACTORY = JsonNodeFactory.withExactBigDecimals(true);
+
+    private YamlTreeDiff() {}
+
+    /**
+     * Compare two YAML node trees. The ignored fields are removed from both trees during the walk, so the trees can be
+     * rendered afterward without them. An ignored field is either a nested path (e.g., spec.replicationFactor) or a
+     * flat key containing dots (e.g., spec.cleanup.policy).
+     *
+     * @param live The live tree, or null if there is none
+     * @param merged The merged tree
+     * @param ignoreFields The dot-notation paths to ignore
+     * @return The JSON Patch operations turning the live tree into the merged tree, empty if both trees are equal
+     */
+    public static List<ObjectNode> diff(Node live, Node merged, List<String> ignoreFields) {
+        List<List<String>> ignored =
+                ignoreFields.stream().map(path -> List.of(path.split("\\."))).toList();
+        List<ObjectNode> operations = new ArrayList<>();
+        walk(live, merged, ignored, "", operations);
+        return operations;
+    }
+
+    /**
+     * Compare two subtrees.
+     *
+     * @param live The live subtree, or null if it does not exist
+     * @param merged The merged subtree, or null if it does not exist
+     * @param ignored The remaining parts of the ignored paths at this level
+     * @param pointer The JSON pointer of the subtrees
+     * @param operations The operations found so far
+     */
+    private static void walk(
+            Node live, Node merged, List<List<String>> ignored, String pointer, List<ObjectNode> operations) {
+        if (live == null) {
+            prune(merged, ignored);
+            operations.add(operation("add", pointer, merged));
+            return;
+        }
+
+        if (merged == null) {
+            prune(live, ignored);
+            operations.add(operation("remove", pointer, null));
+            return;
+        }
+
+        if (live instanceof MappingNode liveMapping && merged instanceof MappingNode mergedMapping) {
+            Map<String, Node> liveValues = values(liveMapping, ignored);
+            Map<String, Node> mergedValues = values(mergedMapping, ignored);
+            liveValues.forEach((key, value) -> {
+                if (!mergedValues.containsKey(key)) {
+                    walk(value, null, descend(ignored, key), child(pointer, key), operations);
+                }
+            });
+            mergedValues.forEach((key, value) ->
+                    walk(liveValues.get(key), value, descend(ignored, key), child(pointer, key), operations));
+            return;
+        }
+
+        if (live instanceof SequenceNode liveSequence && merged instanceof SequenceNode mergedSequence) {
+            List<Node> liveItems = liveSequence.getValue();
+            List<Node> mergedItems = mergedSequence.getValue();
+            int common = Math.min(liveItems.size(), mergedItems.size());
+            for (int i = 0; i < common; i++) {
+                walk(liveItems.get(i), mergedItems.get(i), List.of(), pointer + "/" + i, operations);
+            }
+            for (int i = common; i < mergedItems.size(); i++) {
+                walk(null, mergedItems.get(i), List.of(), pointer + "/" + i, operations);
+            }
+            // Remove from the end so the indexes of the remaining items stay valid
+            for (int i = liveItems.size() - 1; i >= common; i--) {
+                walk(liveItems.get(i), null, List.of(), pointer + "/" + i, operations);
+            }
+            return;
+        }
+
+        if (!(live instanceof ScalarNode liveScalar
+                && merged instanceof ScalarNode mergedScalar
+                && liveScalar.getTag().equals(mergedScalar.getTag())
+                && liveScalar.getValue().equals(mergedScalar.getValue()))) {
+            prune(live, ignored);
+            prune(merged, ignored);
+            operations.add(operation("replace", pointer, merged));
+        }
+    }
+
+    /**
+     * Remove the ignored fields from a whole subtree.
+     *
+     * @param node The subtree
+     * @param ignored The remaining parts of the ignored paths at this level
+     */
+    private static void prune(Node node, List<List<String>> ignored) {
+        if (!ignored.isEmpty() && node instanceof MappingNode mapping) {
+            values(mapping, ignored).forEach((key, value) -> prune(value, descend(ignored, key)));
+        }
+    }
+
+    /**
+     * Remove the ignored keys of a mapping and index its remaining values by key.
+     *
+     * @param mapping The mapping
+     * @param ignored The remaining parts of the ignored paths at this level
+     * @return The values by key
+     */
+    private static Map<String, Node> values(MappingNode mapping, List<List<String>> ignored) {
+        if (!ignored.isEmpty()) {
+            Set<String> ignoredKeys =
+                    ignored.stream().map(parts -> String.join(".", parts)).collect(Collectors.toSet());
+            mapping.getValue().removeIf(tuple -> ignoredKeys.contains(key(tuple)));
+        }
+
+        Map<String, Node> values = new LinkedHashMap<>();
+        mapping.getValue().forEach(tuple -> values.put(key(tuple), tuple.getValueNode()));
+        return values;
+    }
+
+    /**
+     * Get the remaining parts of the ignored paths going through a key.
+     *
+     * @param ignored The remaining parts of the ignored paths at this level
+     * @param key The key
+     * @return The remaining parts of the ignored paths below the key
+     */
+    private static List<List<String>> descend(List<List<String>> ignored, String key) {
+        return ignored.stream()
+                .filter(parts -> parts.size() > 1 && parts.getFirst().equals(key))
+                .map(parts -> parts.subList(1, parts.size()))
+                .toList();
+    }
+
+    /**
+     * Get the key of a mapping entry.
+     *
+     * @param tuple The mapping entry
+     * @return The key
+     */
+    private static String key(NodeTuple tuple) {
+        return tuple.getKeyNode() instanceof ScalarNode scalar
+                ? scalar.getValue()
+                : tuple.getKeyNode().toString();
+    }
+
+    /**
+     * Build the JSON pointer of a child, escaping the key as required by RFC 6901.
+     *
+     * @param pointer The JSON pointer of the parent
+     * @param key The key of the child
+     * @return The JSON pointer of the child
+     */
+    private static String child(String pointer, String key) {
+        return pointer + "/" + key.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * Build a JSON Patch operation.
+     *
+     * @param op The operation
+     * @param pointer The JSON pointer of the target
+     * @param value The value, or null for a removal
+     * @return The operation
+     */
+    private static ObjectNode operation(String op, String pointer, Node value) {
+        ObjectNode operation = FACTORY.objectNode();
+        operation.put("op", op);
+        operation.put("path", pointer);
+        if (value != null) {
+            operation.set("value", toJson(value));
+        }
+        return operation;
+    }
+
+    /**
+     * Convert a YAML node tree to a JSON node tree, keeping the type of the scalars.
+     *
+     * @param node The YAML node
+     * @return The JSON node
+     */
+    private static JsonNode toJson(Node node) {
+        if (node instanceof MappingNode mapping) {
+            ObjectNode object = FACTORY.objectNode();
+            mapping.getValue().forEach(tuple -> object.set(key(tuple), toJson(tuple.getValueNode())));
+            return object;
+        }
+
+        if (node instanceof SequenceNode sequence) {
+            ArrayNode array = FACTORY.arrayNode();
+            sequence.getValue().forEach(item -> array.add(toJson(item)));
+            return array;
+        }
+
+        ScalarNode scalar = (ScalarNode) node;
+        try {
+            if (Tag.NULL.equals(scalar.getTag())) {
+                return FACTORY.nullNode();
+            }
+            if (Tag.BOOL.equals(scalar.getTag())) {
+                return FACTORY.booleanNode(Boolean.parseBoolean(scalar.getValue()));
+            }
+            if (Tag.INT.equals(scalar.getTag())) {
+                return FACTORY.numberNode(new BigInteger(scalar.getValue()));
+            }
+            if (Tag.FLOAT.equals(scalar.getTag())) {
+                return FACTORY.numberNode(new BigDecimal(scalar.getValue()));
+            }
+        } catch (NumberFormatException e) {
+            // Special values such as .inf are kept as text
+        }
+        return FACTORY.textNode(scalar.getValue());
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.client;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.michelin.kafkactl.model.Resource;
+import com.michelin.kafkactl.util.CloseableIterator;
+import com.michelin.kafkactl.util.JsonProjection;
+import com.michelin.kafkactl.util.PublisherInputStream;
+import com.michelin.kafkactl.util.PublisherIterator;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
+import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.runtime.server.EmbeddedServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ResourceStreamClientTest {
+    private static final String SPEC_NAME = "ResourceStreamClientTest";
+    private static final ObjectMapper MAPPER =
+            JsonMapper.builder().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+    private static final String TOPICS = IntStream.range(0, 2000)
+            .mapToObj(i -> "{\"apiVersion\":\"v1\",\"kind\":\"Topic\",\"metadata\":{\"name\":\"prefix.topic" + i
+                    + "\"},\"spec\":{\"partitions\":3,\"configs\":{\"retention.ms\":\"60000\"}}}")
+            .collect(Collectors.joining(",", "[", "]"));
+
+    static EmbeddedServer server;
+    static ApplicationContext clientContext;
+    static ResourceStreamClient streamClient;
+
+    @BeforeAll
+    static void start() {
+        server = ApplicationContext.run(EmbeddedServer.class, Map.of("spec.name", SPEC_NAME));
+        clientContext = ApplicationContext.run(Map.of("kafkactl.api", server.getURL().toString()));
+        streamClient = clientContext.getBean(ResourceStreamClient.class);
+    }
+
+    @AfterAll
+    static void stop() {
+        clientContext.close();
+        server.close();
+    }
+
+    @Test
+    void shouldStreamRawBytesOfNamespacedListing() throws IOException {
+        try (InputStream input = new PublisherInputStream(
+                new PublisherIterator<>(streamClient.streamBytes("namespace", "topics", "*", "Bearer token"), 256))) {
+            assertArrayEquals(TOPICS.getBytes(StandardCharsets.UTF_8), input.readAllBytes());
+        }
+    }
+
+    @Test
+    void shouldProjectStreamedListing() {
+        List<Resource> resources = new ArrayList<>();
+        try (CloseableIterator<Resource> projected = new JsonProjection(List.of("/metadata/name"))
+                .readArray(
+                        new PublisherInputStream(new PublisherIterator<>(
+                                streamClient.streamBytes("namespace", "topics", "*", "Bearer token"), 256)),
+                        MAPPER,
+                        Resource.class)) {
+            projected.forEachRemaining(resources::add);
+        }
+
+        assertEquals(2000, resources.size());
+        assertEquals("prefix.topic1999", resources.getLast().getMetadata().getName());
+        assertNull(resources.getLast().getSpec());
+    }
+
+    @Test
+    void shouldStreamRawBytesOfClusterListingWithSearch() throws IOException {
+        try (InputStream input = new PublisherInputStream(new PublisherIterator<>(
+                streamClient.streamBytes("Bearer token", "namespaces", Map.of("name", "ns*", "topic", "t1")), 256))) {
+            assertEquals("[\"ns*\",\"t1\"]", new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void shouldRaiseErrorStatus() {
+        PublisherIterator<byte[]> chunks =
+                new PublisherIterator<>(streamClient.streamBytes("namespace", "topics", "*", "Bearer other"), 256);
+
+        HttpClientResponseException exception = assertThrows(HttpClientResponseException.class, () -> {
+            try (InputStream input = new PublisherInputStream(chunks)) {
+                input.transferTo(new ByteArrayOutputStream());
+            }
+        });
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatus());
+    }
+
+    @Requires(property = "spec.name", value = SPEC_NAME)
+    @Controller("/api")
+    public static class ResourceController {
+        @Get(uri = "/namespaces/{namespace}/{kind}{?name}", produces = MediaType.APPLICATION_JSON)
+        public HttpResponse<String> list(
+                String namespace,
+                String kind,
+                @Nullable @QueryValue String name,
+                @Header("Authorization") String authorization) {
+            if (!"Bearer token".equals(authorization)) {
+                return HttpResponse.status(HttpStatus.FORBIDDEN);
+            }
+            return HttpResponse.ok(TOPICS);
+        }
+
+        @Get(uri = "/{kind}{?name,topic}", produces = MediaType.APPLICATION_JSON)
+        public HttpResponse<String> listClusterResources(
+                String kind,
+                @Nullable @QueryValue String name,
+                @Nullable @QueryValue String topic,
+                @Header("Authorization") String authorization) {
+            return HttpResponse.ok("[\"" + name + "\",\"" + topic + "\"]");
+        }
+    }
+}
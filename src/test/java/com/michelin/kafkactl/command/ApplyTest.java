@@ -33,10 +33,12 @@ import com.michelin.kafkactl.property.KafkactlProperties;
 import com.michelin.kafkactl.service.ApiResourcesService;
 import com.michelin.kafkactl.service.ConfigService;
 import com.michelin.kafkactl.service.FormatService;
+import com.michelin.kafkactl.service.JournalService;
 import com.michelin.kafkactl.service.LoginService;
 import com.michelin.kafkactl.service.ResourceService;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Collections;
@@ -69,6 +71,9 @@ class ApplyTest {
     @Mock
     ConfigService configService;
 
+    @Mock
+    JournalService journalService;
+
     @Mock
     KafkactlProperties kafkactlProperties;
 
@@ -265,6 +270,296 @@ class ApplyTest {
         verify(resourceService).apply(apiResource, "namespace", resource, false, cmd.getCommandSpec());
     }
 
+    @Test
+    void shouldNotApplyWhenInvalidParallelism() {
+        CommandLine cmd = new CommandLine(apply);
+        StringWriter sw = new StringWriter();
+        cmd.setErr(new PrintWriter(sw));
+
+        assertEquals(2, cmd.execute("-f", "topic.yml", "--parallelism", "0"));
+        assertTrue(sw.toString().contains("The parallelism must be greater than 0."));
+
+        assertEquals(2, cmd.execute("-f", "topic.yml", "--parallelism", "-5"));
+        verify(resourceService, never()).parseResources(any(), anyBoolean(), any());
+    }
+
+    @Test
+    void shouldApplyWithParallelism() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        Resource topic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Collections.emptyMap())
+                .build();
+
+        Resource otherTopic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.otherTopic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Collections.emptyMap())
+                .build();
+
+        when(resourceService.parseResources(any(), anyBoolean(), any())).thenReturn(List.of(topic, otherTopic));
+        when(kafkactlProperties.getCurrentNamespace()).thenReturn("namespace");
+        doCallRealMethod().when(resourceService).prepareResources(any(), any());
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByKind(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.apply(any(), any(), any(), anyBoolean(), any()))
+                .thenReturn(HttpResponse.ok(topic).header("X-Ns4kafka-Result", "Created"))
+                .thenReturn(null);
+
+        CommandLine cmd = new CommandLine(apply);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute("-f", "topic.yml", "--parallelism", "2");
+        assertEquals(1, code);
+        verify(resourceService).apply(eq(apiResource), eq("namespace"), eq(topic), eq(false), any());
+        verify(resourceService).apply(eq(apiResource), eq("namespace"), eq(otherTopic), eq(false), any());
+    }
+
+    @Test
+    void shouldSkipUnchangedResourcesWithOnlyChanged() throws IOException {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        Resource topic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("partitions", 3))
+                .build();
+
+        Resource changedTopic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.changedTopic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("partitions", 6))
+                .build();
+
+        when(resourceService.parseResources(any(), anyBoolean(), any())).thenReturn(List.of(topic, changedTopic));
+        when(kafkactlProperties.getCurrentNamespace()).thenReturn("namespace");
+        doCallRealMethod().when(resourceService).prepareResources(any(), any());
+        when(formatService.prettifyKind("Topic")).thenReturn("Topic");
+        when(journalService.readJournal("namespace"))
+                .thenReturn(new HashMap<>(Map.of(
+                        "Topic/prefix.topic", JournalService.hash(topic),
+                        "Topic/prefix.changedTopic", "previousHash")));
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByKind(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.apply(any(), any(), any(), anyBoolean(), any()))
+                .thenReturn(HttpResponse.ok(changedTopic).header("X-Ns4kafka-Result", "Changed"));
+
+        CommandLine cmd = new CommandLine(apply);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute("-f", "topic.yml", "--only-changed");
+        assertEquals(0, code);
+        assertTrue(sw.toString().contains("Topic \"prefix.topic\" unchanged."));
+        verify(resourceService, never()).apply(any(), any(), eq(topic), anyBoolean(), any());
+        verify(resourceService).apply(apiResource, "namespace", changedTopic, false, cmd.getCommandSpec());
+        verify(journalService)
+                .writeJournal(
+                        "namespace",
+                        Map.of(
+                                "Topic/prefix.topic", JournalService.hash(topic),
+                                "Topic/prefix.changedTopic", JournalService.hash(changedTopic)));
+    }
+
+    @Test
+    void shouldApplyUnchangedResourcesWithForceAll() throws IOException {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        Resource topic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("partitions", 3))
+                .build();
+
+        when(resourceService.parseResources(any(), anyBoolean(), any())).thenReturn(List.of(topic));
+        when(kafkactlProperties.getCurrentNamespace()).thenReturn("namespace");
+        doCallRealMethod().when(resourceService).prepareResources(any(), any());
+        when(journalService.readJournal("namespace"))
+                .thenReturn(new HashMap<>(Map.of("Topic/prefix.topic", JournalService.hash(topic))));
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByKind(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.apply(any(), any(), any(), anyBoolean(), any()))
+                .thenReturn(HttpResponse.ok(topic).header("X-Ns4kafka-Result", "unchanged"));
+
+        CommandLine cmd = new CommandLine(apply);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute("-f", "topic.yml", "--only-changed", "--force-all");
+        assertEquals(0, code);
+        verify(resourceService).apply(apiResource, "namespace", topic, false, cmd.getCommandSpec());
+        verify(journalService).writeJournal("namespace", Map.of("Topic/prefix.topic", JournalService.hash(topic)));
+    }
+
+    @Test
+    void shouldNotWriteJournalWhenDryRun() throws IOException {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        Resource topic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("partitions", 3))
+                .build();
+
+        when(resourceService.parseResources(any(), anyBoolean(), any())).thenReturn(List.of(topic));
+        when(kafkactlProperties.getCurrentNamespace()).thenReturn("namespace");
+        doCallRealMethod().when(resourceService).prepareResources(any(), any());
+        when(journalService.readJournal("namespace")).thenReturn(new HashMap<>());
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByKind(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.apply(any(), any(), any(), anyBoolean(), any()))
+                .thenReturn(HttpResponse.ok(topic).header("X-Ns4kafka-Result", "Changed"));
+
+        CommandLine cmd = new CommandLine(apply);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute("-f", "topic.yml", "--only-changed", "--dry-run");
+        assertEquals(0, code);
+        verify(resourceService).apply(apiResource, "namespace", topic, true, cmd.getCommandSpec());
+        verify(journalService, never()).writeJournal(any(), any());
+    }
+
+    @Test
+    void shouldSkipResourcesUnchangedOnServerWithPrefetch() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        Resource topic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("partitions", 3))
+                .build();
+
+        Resource changedTopic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.changedTopic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("partitions", 6))
+                .build();
+
+        Resource liveTopic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .labels(Map.of())
+                        .build())
+                .spec(Map.of("partitions", 3))
+                .status(Map.of("phase", "Success"))
+                .build();
+
+        Resource liveChangedTopic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.changedTopic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("partitions", 3))
+                .build();
+
+        when(resourceService.parseResources(any(), anyBoolean(), any())).thenReturn(List.of(topic, changedTopic));
+        when(kafkactlProperties.getCurrentNamespace()).thenReturn("namespace");
+        doCallRealMethod().when(resourceService).prepareResources(any(), any());
+        when(formatService.prettifyKind("Topic")).thenReturn("Topic");
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByKind(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.listResourcesByName(apiResource, "namespace"))
+                .thenReturn(Map.of("prefix.topic", liveTopic, "prefix.changedTopic", liveChangedTopic));
+        when(resourceService.apply(any(), any(), any(), anyBoolean(), any()))
+                .thenReturn(HttpResponse.ok(changedTopic).header("X-Ns4kafka-Result", "Changed"));
+
+        CommandLine cmd = new CommandLine(apply);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute("-f", "topic.yml", "--prefetch");
+        assertEquals(0, code);
+        assertTrue(sw.toString().contains("Topic \"prefix.topic\" unchanged."));
+        verify(resourceService, never()).apply(any(), any(), eq(topic), anyBoolean(), any());
+        verify(resourceService).apply(apiResource, "namespace", changedTopic, false, cmd.getCommandSpec());
+    }
+
     @Test
     void shouldApplyDryRun() {
         when(configService.isCurrentContextValid()).thenReturn(true);
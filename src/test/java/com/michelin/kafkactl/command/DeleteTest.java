@@ -30,6 +30,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.michelin.kafkactl.model.ApiResource;
+import com.michelin.kafkactl.model.LabelSelector;
 import com.michelin.kafkactl.model.Resource;
 import com.michelin.kafkactl.model.request.DeleteResourceRequest;
 import com.michelin.kafkactl.property.KafkactlProperties;
@@ -54,6 +55,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import picocli.CommandLine;
+import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.ParameterException;
 
 @ExtendWith(MockitoExtension.class)
@@ -254,6 +256,81 @@ class DeleteTest {
         assertEquals(0, code);
     }
 
+    @Test
+    void shouldDeleteByFileInReverseDependencyOrderWithParallelism() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+        when(fileService.computeYamlFileList(any(), anyBoolean()))
+                .thenReturn(Collections.singletonList(new File("path")));
+
+        Resource namespace = Resource.builder()
+                .kind("Namespace")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("namespace").build())
+                .build();
+
+        Resource topic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .build())
+                .build();
+
+        Resource otherTopic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.otherTopic")
+                        .namespace("namespace")
+                        .build())
+                .build();
+
+        when(fileService.parseResourceListFromFiles(any())).thenReturn(List.of(namespace, topic, otherTopic));
+
+        ApiResource topicApiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        ApiResource namespaceApiResource = ApiResource.builder()
+                .kind("Namespace")
+                .path("namespaces")
+                .names(List.of("namespaces", "namespace", "ns"))
+                .namespaced(false)
+                .synchronizable(false)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByKind("Topic")).thenReturn(Optional.of(topicApiResource));
+        when(apiResourcesService.getResourceDefinitionByKind("Namespace"))
+                .thenReturn(Optional.of(namespaceApiResource));
+        when(resourceService.delete(any(), any(), any())).thenAnswer(invocation -> {
+            invocation
+                    .getArgument(2, CommandSpec.class)
+                    .commandLine()
+                    .getOut()
+                    .println(invocation.getArgument(1, DeleteResourceRequest.class).name() + " deleted.");
+            return true;
+        });
+
+        CommandLine cmd = new CommandLine(delete);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute(
+                "-f", "src/test/resources/topics/topic.yml", "-n", "namespace", "--parallelism", "2");
+        assertEquals(0, code);
+        assertEquals(
+                "prefix.topic deleted." + System.lineSeparator()
+                        + "prefix.otherTopic deleted." + System.lineSeparator()
+                        + "namespace deleted." + System.lineSeparator(),
+                sw.toString());
+    }
+
     @Test
     void shouldDeleteOneVersionByFile() {
         when(configService.isCurrentContextValid()).thenReturn(true);
@@ -670,6 +747,123 @@ class DeleteTest {
         assertFalse(sw.toString().contains("You are about to potentially delete multiple resources with wildcard"));
     }
 
+    @Test
+    void shouldDeleteBySelectorWithParallelism() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
+        when(apiResourcesService.getResourceDefinitionByKind(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.listResourcesWithType(apiResource, "namespace", "prefix.*", null))
+                .thenReturn(List.of(
+                        labeledTopic("prefix.dev1", "dev"),
+                        labeledTopic("prefix.prod", "prod"),
+                        labeledTopic("prefix.dev2", "dev")));
+        when(resourceService.delete(any(), any(), any())).thenReturn(true);
+
+        CommandLine cmd = new CommandLine(delete);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute(
+                "topic", "prefix.*", "-l", "env=dev", "-n", "namespace", "--execute", "--parallelism", "2");
+        assertEquals(0, code);
+        verify(resourceService)
+                .delete(
+                        eq(apiResource),
+                        eq(deleteRequest("namespace", "topics", "prefix.dev1", null, false, false, false)),
+                        any());
+        verify(resourceService)
+                .delete(
+                        eq(apiResource),
+                        eq(deleteRequest("namespace", "topics", "prefix.dev2", null, false, false, false)),
+                        any());
+        verify(resourceService, never())
+                .delete(
+                        any(),
+                        eq(deleteRequest("namespace", "topics", "prefix.prod", null, false, false, false)),
+                        any());
+    }
+
+    @Test
+    void shouldNotDeleteBySelectorWhenNoResourceMatches() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.listResourcesWithType(apiResource, "namespace", "*", null))
+                .thenReturn(List.of(labeledTopic("prefix.prod", "prod")));
+
+        CommandLine cmd = new CommandLine(delete);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute("topic", "-l", "env=dev", "-n", "namespace", "--dry-run");
+        assertEquals(0, code);
+        verify(formatService).displayNoResource("Topic", LabelSelector.parse("env=dev"), cmd.getCommandSpec());
+        verify(resourceService, never()).delete(any(), any(), any());
+    }
+
+    @Test
+    void shouldNotDeleteBySelectorWithoutExecute() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        CommandLine cmd = new CommandLine(delete);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute("topics", "-l", "env=dev", "-n", "namespace");
+        assertEquals(0, code);
+        assertTrue(sw.toString()
+                .contains("You are about to potentially delete multiple resources with selector \"env=dev\"."));
+        verify(resourceService, never()).delete(any(), any(), any());
+    }
+
+    @Test
+    void shouldNotDeleteWithoutNameNorSelector() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        CommandLine cmd = new CommandLine(delete);
+        StringWriter sw = new StringWriter();
+        cmd.setErr(new PrintWriter(sw));
+
+        assertEquals(2, cmd.execute("topics", "-n", "namespace"));
+        assertTrue(sw.toString().contains("A resource name or a label selector is required."));
+
+        assertEquals(2, cmd.execute("topics", "-l", "env in dev", "-n", "namespace"));
+        assertTrue(sw.toString().contains("Invalid label selector \"env in dev\"."));
+    }
+
+    private static Resource labeledTopic(String name, String env) {
+        return Resource.builder()
+                .kind("Topic")
+                .metadata(Resource.Metadata.builder()
+                        .name(name)
+                        .namespace("namespace")
+                        .labels(Map.of("env", env))
+                        .build())
+                .spec(Map.of("version", 1))
+                .build();
+    }
+
     private static DeleteResourceRequest deleteRequest(
             String namespace,
             String kind,
@@ -27,6 +27,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -401,6 +402,183 @@ class DiffTest {
         assertTrue(sw.toString().contains("+  replicationFactor: 1"));
     }
 
+    @Test
+    void shouldDiffWithParallelism() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        Resource resource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("partitions", 1))
+                .build();
+
+        Resource otherResource = Resource.builder()
+                .kind("Connector")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.connector")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("connectCluster", "connect"))
+                .build();
+
+        when(resourceService.parseResources(any(), anyBoolean(), any())).thenReturn(List.of(resource, otherResource));
+        when(kafkactlProperties.getCurrentNamespace()).thenReturn("namespace");
+        doCallRealMethod().when(resourceService).prepareResources(any(), any());
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByKind(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.getSingleResourceWithType(any(), any(), any(), anyBoolean()))
+                .thenReturn(null);
+        when(resourceService.apply(any(), any(), any(), anyBoolean(), any()))
+                .thenAnswer(invocation -> HttpResponse.ok(invocation.getArgument(2, Resource.class)));
+
+        CommandLine cmd = new CommandLine(diff);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute("-f", "topic.yml", "--parallelism", "2");
+        assertEquals(0, code);
+        assertTrue(sw.toString().contains("+++ Topic/prefix.topic-MERGED"));
+        assertTrue(sw.toString().contains("+++ Connector/prefix.connector-MERGED"));
+        assertTrue(sw.toString().indexOf("+++ Topic/prefix.topic-MERGED")
+                < sw.toString().indexOf("+++ Connector/prefix.connector-MERGED"));
+        verify(resourceService).getSingleResourceWithType(apiResource, "namespace", "prefix.topic", false);
+        verify(resourceService).getSingleResourceWithType(apiResource, "namespace", "prefix.connector", false);
+    }
+
+    @Test
+    void shouldDiffWithLiveResourcesListedByKind() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        Resource resource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("partitions", 3))
+                .build();
+
+        Resource otherResource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.otherTopic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("partitions", 2))
+                .build();
+
+        Resource live = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("partitions", 1))
+                .build();
+
+        when(resourceService.parseResources(any(), anyBoolean(), any())).thenReturn(List.of(resource, otherResource));
+        when(kafkactlProperties.getCurrentNamespace()).thenReturn("namespace");
+        doCallRealMethod().when(resourceService).prepareResources(any(), any());
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByKind(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.listResourcesByName(apiResource, "namespace")).thenReturn(Map.of("prefix.topic", live));
+        when(resourceService.apply(any(), any(), any(), anyBoolean(), any()))
+                .thenAnswer(invocation -> HttpResponse.ok(invocation.getArgument(2, Resource.class)));
+
+        CommandLine cmd = new CommandLine(diff);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute("-f", "topic.yml");
+        assertEquals(0, code);
+        assertTrue(sw.toString().contains("-  partitions: 1"));
+        assertTrue(sw.toString().contains("+  partitions: 3"));
+        assertTrue(sw.toString().contains("+++ Topic/prefix.otherTopic-MERGED"));
+        assertTrue(sw.toString().contains("+  partitions: 2"));
+        verify(resourceService, never()).getSingleResourceWithType(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void shouldDiffWithSingleResourcesWhenListByKindFails() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        Resource resource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("partitions", 3))
+                .build();
+
+        Resource otherResource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.otherTopic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("partitions", 2))
+                .build();
+
+        when(resourceService.parseResources(any(), anyBoolean(), any())).thenReturn(List.of(resource, otherResource));
+        when(kafkactlProperties.getCurrentNamespace()).thenReturn("namespace");
+        doCallRealMethod().when(resourceService).prepareResources(any(), any());
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByKind(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.listResourcesByName(apiResource, "namespace"))
+                .thenThrow(new HttpClientResponseException("error", HttpResponse.serverError()));
+        when(resourceService.getSingleResourceWithType(any(), any(), any(), anyBoolean()))
+                .thenReturn(null);
+        when(resourceService.apply(any(), any(), any(), anyBoolean(), any()))
+                .thenAnswer(invocation -> HttpResponse.ok(invocation.getArgument(2, Resource.class)));
+
+        CommandLine cmd = new CommandLine(diff);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute("-f", "topic.yml");
+        assertEquals(0, code);
+        verify(resourceService).getSingleResourceWithType(apiResource, "namespace", "prefix.topic", false);
+        verify(resourceService).getSingleResourceWithType(apiResource, "namespace", "prefix.otherTopic", false);
+    }
+
     @Test
     void shouldDiffWithIgnoreFields() {
         when(configService.isCurrentContextValid()).thenReturn(true);
@@ -965,4 +1143,128 @@ class DiffTest {
         assertTrue(output.contains("+  partitions: 1"));
         assertTrue(output.contains("+  replicationFactor: 1"));
     }
+
+    @Test
+    void shouldDiffAsJsonPatch() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        Resource resource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of(
+                        "replicationFactor", 1,
+                        "partitions", 1,
+                        "cleanup.policy", "delete"))
+                .build();
+
+        when(resourceService.parseResources(any(), anyBoolean(), any()))
+                .thenReturn(Collections.singletonList(resource));
+        when(kafkactlProperties.getCurrentNamespace()).thenReturn("namespace");
+        doCallRealMethod().when(resourceService).prepareResources(any(), any());
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByKind(any())).thenReturn(Optional.of(apiResource));
+
+        Resource live = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of(
+                        "replicationFactor", 3,
+                        "partitions", 3))
+                .build();
+
+        when(resourceService.getSingleResourceWithType(any(), any(), any(), anyBoolean()))
+                .thenReturn(live);
+        when(resourceService.apply(any(), any(), any(), anyBoolean(), any()))
+                .thenReturn(HttpResponse.ok(resource).header("X-Ns4kafka-Result", "Created"));
+
+        CommandLine cmd = new CommandLine(diff);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute("-f", "topic.yml", "-o", "json-patch");
+        assertEquals(0, code);
+        String output = sw.toString();
+        assertTrue(output.startsWith("{\"kind\":\"Topic\",\"name\":\"prefix.topic\",\"patch\":["));
+        assertTrue(output.contains("{\"op\":\"replace\",\"path\":\"/spec/replicationFactor\",\"value\":1}"));
+        assertTrue(output.contains("{\"op\":\"replace\",\"path\":\"/spec/partitions\",\"value\":1}"));
+        assertTrue(output.contains("{\"op\":\"add\",\"path\":\"/spec/cleanup.policy\",\"value\":\"delete\"}"));
+        assertFalse(output.contains("+++ Topic/prefix.topic-MERGED"));
+    }
+
+    @Test
+    void shouldNotPrintUnchangedResource() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        Resource resource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of(
+                        "replicationFactor", 1,
+                        "partitions", 1,
+                        "cleanup.policy", "delete"))
+                .build();
+
+        when(resourceService.parseResources(any(), anyBoolean(), any()))
+                .thenReturn(Collections.singletonList(resource));
+        when(kafkactlProperties.getCurrentNamespace()).thenReturn("namespace");
+        doCallRealMethod().when(resourceService).prepareResources(any(), any());
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByKind(any())).thenReturn(Optional.of(apiResource));
+
+        Resource live = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of(
+                        "replicationFactor", 3,
+                        "partitions", 1,
+                        "cleanup.policy", "delete"))
+                .build();
+
+        when(resourceService.getSingleResourceWithType(any(), any(), any(), anyBoolean()))
+                .thenReturn(live);
+        when(resourceService.apply(any(), any(), any(), anyBoolean(), any()))
+                .thenReturn(HttpResponse.ok(resource).header("X-Ns4kafka-Result", "Created"));
+
+        CommandLine cmd = new CommandLine(diff);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute("-f", "topic.yml", "--ignore-fields", "spec.replicationFactor");
+        assertEquals(0, code);
+        assertTrue(sw.toString().isEmpty());
+    }
 }
@@ -23,10 +23,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.michelin.kafkactl.model.ApiResource;
+import com.michelin.kafkactl.model.ListOptions;
 import com.michelin.kafkactl.property.KafkactlProperties;
 import com.michelin.kafkactl.service.ApiResourcesService;
 import com.michelin.kafkactl.service.ConfigService;
@@ -37,6 +39,7 @@ import io.micronaut.http.HttpResponse;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -140,7 +143,7 @@ class GetTest {
 
         when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
         HttpClientResponseException e = new HttpClientResponseException("error", HttpResponse.serverError());
-        when(resourceService.list(any(), any(), any(), any(), any(), any())).thenThrow(e);
+        when(resourceService.list(any(), any(), any(), any(), any(), any(), any())).thenThrow(e);
 
         CommandLine cmd = new CommandLine(get);
 
@@ -177,7 +180,7 @@ class GetTest {
 
         when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
 
-        when(resourceService.list(any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(resourceService.list(any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
 
         CommandLine cmd = new CommandLine(get);
         StringWriter sw = new StringWriter();
@@ -192,6 +195,7 @@ class GetTest {
                         "myTopic",
                         null,
                         TABLE,
+                        ListOptions.none(),
                         cmd.getCommandSpec());
     }
 
@@ -209,7 +213,7 @@ class GetTest {
                 .build();
 
         when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
-        when(resourceService.list(any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(resourceService.list(any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
 
         CommandLine cmd = new CommandLine(get);
         StringWriter sw = new StringWriter();
@@ -218,7 +222,14 @@ class GetTest {
         int code = cmd.execute("topics", "-n", "namespace");
         assertEquals(0, code);
         verify(resourceService)
-                .list(Collections.singletonList(apiResource), "namespace", "*", null, TABLE, cmd.getCommandSpec());
+                .list(
+                        Collections.singletonList(apiResource),
+                        "namespace",
+                        "*",
+                        null,
+                        TABLE,
+                        ListOptions.none(),
+                        cmd.getCommandSpec());
     }
 
     @Test
@@ -244,14 +255,21 @@ class GetTest {
                 .build();
 
         when(apiResourcesService.listResourceDefinitions()).thenReturn(List.of(apiResource, nonNamespacedApiResource));
-        when(resourceService.list(any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(resourceService.list(any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
 
         CommandLine cmd = new CommandLine(get);
 
         int code = cmd.execute("all");
         assertEquals(0, code);
         verify(resourceService)
-                .list(Collections.singletonList(apiResource), "namespace", "*", null, TABLE, cmd.getCommandSpec());
+                .list(
+                        Collections.singletonList(apiResource),
+                        "namespace",
+                        "*",
+                        null,
+                        TABLE,
+                        ListOptions.none(),
+                        cmd.getCommandSpec());
     }
 
     @Test
@@ -269,7 +287,7 @@ class GetTest {
 
         when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
 
-        when(resourceService.list(any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(resourceService.list(any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
 
         CommandLine cmd = new CommandLine(get);
         StringWriter sw = new StringWriter();
@@ -284,6 +302,7 @@ class GetTest {
                         "myTopic",
                         Map.of("tag", "test", "policy", "compact"),
                         TABLE,
+                        ListOptions.none(),
                         cmd.getCommandSpec());
     }
 
@@ -302,7 +321,7 @@ class GetTest {
 
         when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
 
-        when(resourceService.list(any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(resourceService.list(any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
 
         CommandLine cmd = new CommandLine(get);
         StringWriter sw = new StringWriter();
@@ -327,6 +346,338 @@ class GetTest {
                         "myTopic",
                         Map.of("tag", "test", "policy", "compact", "partition", "3"),
                         TABLE,
+                        ListOptions.none(),
+                        cmd.getCommandSpec());
+    }
+
+    @Test
+    void shouldGetSortedAndLimitedResources() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.list(any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        CommandLine cmd = new CommandLine(get);
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        int code = cmd.execute(
+                "topics",
+                "-n",
+                "namespace",
+                "--sort-by",
+                "/metadata/creationTimestamp",
+                "--descending",
+                "--limit",
+                "20");
+        assertEquals(0, code);
+        verify(resourceService)
+                .list(
+                        Collections.singletonList(apiResource),
+                        "namespace",
+                        "*",
+                        null,
+                        TABLE,
+                        ListOptions.builder()
+                                .sortBy("/metadata/creationTimestamp")
+                                .descending(true)
+                                .limit(20)
+                                .build(),
+                        cmd.getCommandSpec());
+    }
+
+    @Test
+    void shouldGetWithCustomColumns() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.list(any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        CommandLine cmd = new CommandLine(get);
+
+        int code = cmd.execute(
+                "topics", "-n", "namespace", "-o", "custom-columns=NAME:/metadata/name,PARTS:/spec/partitions");
+        assertEquals(0, code);
+        verify(resourceService)
+                .list(
+                        Collections.singletonList(apiResource),
+                        "namespace",
+                        "*",
+                        null,
+                        TABLE,
+                        ListOptions.builder()
+                                .columns(List.of("NAME:/metadata/name", "PARTS:/spec/partitions"))
+                                .build(),
+                        cmd.getCommandSpec());
+    }
+
+    @Test
+    void shouldNotGetWhenInvalidCustomColumns() {
+        CommandLine cmd = new CommandLine(get);
+        StringWriter sw = new StringWriter();
+        cmd.setErr(new PrintWriter(sw));
+
+        int code = cmd.execute("topics", "-o", "custom-columns=NAME");
+        assertEquals(2, code);
+        assertTrue(sw.toString().contains("Invalid value for option '--output': Invalid custom column \"NAME\""));
+    }
+
+    @Test
+    void shouldNotGetWhenInvalidListOptions() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
+
+        CommandLine cmd = new CommandLine(get);
+        StringWriter sw = new StringWriter();
+        cmd.setErr(new PrintWriter(sw));
+
+        assertEquals(2, cmd.execute("topics", "--limit", "0"));
+        assertTrue(sw.toString().contains("The limit must be greater than 0."));
+
+        assertEquals(2, cmd.execute("topics", "--limit", "1", "--sort-by", "metadata/name"));
+        assertTrue(sw.toString().contains("Invalid JSON pointer \"metadata/name\", it must start with '/'."));
+
+        assertEquals(2, cmd.execute("topics", "--limit", "1", "--descending"));
+        assertTrue(sw.toString().contains("The --descending option requires --sort-by."));
+        verify(resourceService, never()).list(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldWatchResources() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.watch(any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        CommandLine cmd = new CommandLine(get);
+
+        int code = cmd.execute("topics", "-n", "namespace", "--watch", "--interval", "5");
+        assertEquals(0, code);
+        verify(resourceService)
+                .watch(
+                        apiResource,
+                        "namespace",
+                        "*",
+                        null,
+                        TABLE,
+                        ListOptions.none(),
+                        Duration.ofSeconds(5),
                         cmd.getCommandSpec());
+        verify(resourceService, never()).list(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldNotWatchWhenInvalidWatchOptions() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.listResourceDefinitions()).thenReturn(List.of(apiResource, apiResource));
+        when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
+
+        CommandLine cmd = new CommandLine(get);
+        StringWriter sw = new StringWriter();
+        cmd.setErr(new PrintWriter(sw));
+
+        assertEquals(2, cmd.execute("all", "--watch"));
+        assertTrue(sw.toString().contains("The --watch option requires a single resource type."));
+
+        assertEquals(2, cmd.execute("topics", "--watch", "--interval", "0"));
+        assertTrue(sw.toString().contains("The interval must be greater than 0."));
+        verify(resourceService, never()).watch(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldGetInAllNamespaces() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Connector")
+                .path("connectors")
+                .names(List.of("connects", "connect", "co"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.listAllNamespaces(any(), any(), any(), any(), any())).thenReturn(0);
+
+        CommandLine cmd = new CommandLine(get);
+
+        int code = cmd.execute("connectors", "-A", "--sort-by", "/metadata/name");
+        assertEquals(0, code);
+        verify(resourceService)
+                .listAllNamespaces(
+                        apiResource,
+                        "*",
+                        TABLE,
+                        ListOptions.builder().sortBy("/metadata/name").build(),
+                        cmd.getCommandSpec());
+        verify(resourceService, never()).list(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldNotGetInAllNamespacesWhenInvalidOptions() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Connector")
+                .path("connectors")
+                .names(List.of("connects", "connect", "co"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        ApiResource namespaceResource = ApiResource.builder()
+                .kind("Namespace")
+                .path("namespaces")
+                .names(List.of("namespaces", "namespace", "ns"))
+                .namespaced(false)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByName("connectors")).thenReturn(Optional.of(apiResource));
+        when(apiResourcesService.getResourceDefinitionByName("namespaces"))
+                .thenReturn(Optional.of(namespaceResource));
+
+        CommandLine cmd = new CommandLine(get);
+        StringWriter sw = new StringWriter();
+        cmd.setErr(new PrintWriter(sw));
+
+        assertEquals(2, cmd.execute("namespaces", "--all-namespaces"));
+        assertTrue(sw.toString().contains("The --all-namespaces option requires a single namespaced resource type."));
+
+        assertEquals(2, cmd.execute("connectors", "--all-namespaces", "--watch"));
+        assertTrue(sw.toString().contains("The --all-namespaces and --watch options cannot be combined."));
+
+        assertEquals(2, cmd.execute("connectors", "--all-namespaces", "--search", "key=value"));
+        assertTrue(sw.toString().contains("The --all-namespaces and --search options cannot be combined."));
+        verify(resourceService, never()).listAllNamespaces(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldGetCached() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
+        when(resourceService.list(any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        CommandLine cmd = new CommandLine(get);
+
+        assertEquals(0, cmd.execute("topics", "-n", "namespace", "--cached"));
+        verify(resourceService)
+                .list(
+                        Collections.singletonList(apiResource),
+                        "namespace",
+                        "*",
+                        null,
+                        TABLE,
+                        ListOptions.builder().cacheTtl(Duration.ofSeconds(30)).build(),
+                        cmd.getCommandSpec());
+
+        assertEquals(0, cmd.execute("topics", "-n", "namespace", "--cached=5m"));
+        verify(resourceService)
+                .list(
+                        Collections.singletonList(apiResource),
+                        "namespace",
+                        "*",
+                        null,
+                        TABLE,
+                        ListOptions.builder().cacheTtl(Duration.ofMinutes(5)).build(),
+                        cmd.getCommandSpec());
+    }
+
+    @Test
+    void shouldNotGetCachedWhenInvalidDuration() {
+        CommandLine cmd = new CommandLine(get);
+        StringWriter sw = new StringWriter();
+        cmd.setErr(new PrintWriter(sw));
+
+        int code = cmd.execute("topics", "--cached=5x");
+        assertEquals(2, code);
+        assertTrue(sw.toString()
+                .contains("Invalid duration \"5x\", expected a number followed by ms, s, m or h."));
+        verify(resourceService, never()).list(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldNotGetCachedWhenWatching() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(apiResourcesService.getResourceDefinitionByName(any())).thenReturn(Optional.of(apiResource));
+
+        CommandLine cmd = new CommandLine(get);
+        StringWriter sw = new StringWriter();
+        cmd.setErr(new PrintWriter(sw));
+
+        assertEquals(2, cmd.execute("topics", "--cached=0s"));
+        assertTrue(sw.toString().contains("The cache duration must be greater than 0."));
+
+        assertEquals(2, cmd.execute("topics", "--cached", "--watch"));
+        assertTrue(sw.toString().contains("The --cached and --watch options cannot be combined."));
+        verify(resourceService, never()).watch(any(), any(), any(), any(), any(), any(), any(), any());
     }
 }
@@ -34,6 +34,7 @@ import com.michelin.kafkactl.service.LoginService;
 import com.michelin.kafkactl.service.ResourceService;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -103,26 +104,26 @@ class GroupListTest {
         when(configService.isCurrentContextValid()).thenReturn(true);
         when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
         when(kafkactlProperties.getCurrentNamespace()).thenReturn("namespace");
-        when(resourceService.listGroups(any(), anyBoolean(), any(), any())).thenReturn(0);
+        when(resourceService.listGroups(any(), anyBoolean(), any(), any(), any())).thenReturn(0);
 
         CommandLine cmd = new CommandLine(groupList);
 
         int code = cmd.execute();
         assertEquals(0, code);
-        verify(resourceService).listGroups("namespace", false, TABLE, cmd.getCommandSpec());
+        verify(resourceService).listGroups("namespace", false, TABLE, null, cmd.getCommandSpec());
     }
 
     @Test
     void shouldListGroupsWithProvidedNamespaceAndOutput() {
         when(configService.isCurrentContextValid()).thenReturn(true);
         when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
-        when(resourceService.listGroups(any(), anyBoolean(), any(), any())).thenReturn(0);
+        when(resourceService.listGroups(any(), anyBoolean(), any(), any(), any())).thenReturn(0);
 
         CommandLine cmd = new CommandLine(groupList);
 
         int code = cmd.execute("-n", "namespace", "-o", "yaml");
         assertEquals(0, code);
-        verify(resourceService).listGroups("namespace", false, YAML, cmd.getCommandSpec());
+        verify(resourceService).listGroups("namespace", false, YAML, null, cmd.getCommandSpec());
     }
 
     @Test
@@ -130,25 +131,44 @@ class GroupListTest {
         when(configService.isCurrentContextValid()).thenReturn(true);
         when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
         when(kafkactlProperties.getCurrentNamespace()).thenReturn("namespace");
-        when(resourceService.listGroups(any(), anyBoolean(), any(), any())).thenReturn(0);
+        when(resourceService.listGroups(any(), anyBoolean(), any(), any(), any())).thenReturn(0);
 
         CommandLine cmd = new CommandLine(groupList);
 
         int code = cmd.execute("-e");
         assertEquals(0, code);
-        verify(resourceService).listGroups("namespace", true, TABLE, cmd.getCommandSpec());
+        verify(resourceService).listGroups("namespace", true, TABLE, null, cmd.getCommandSpec());
     }
 
     @Test
     void shouldListExternalGroupsWithProvidedNamespaceAndOutput() {
         when(configService.isCurrentContextValid()).thenReturn(true);
         when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
-        when(resourceService.listGroups(any(), anyBoolean(), any(), any())).thenReturn(0);
+        when(resourceService.listGroups(any(), anyBoolean(), any(), any(), any())).thenReturn(0);
 
         CommandLine cmd = new CommandLine(groupList);
 
         int code = cmd.execute("-n", "namespace", "-o", "yaml", "--external");
         assertEquals(0, code);
-        verify(resourceService).listGroups("namespace", true, YAML, cmd.getCommandSpec());
+        verify(resourceService).listGroups("namespace", true, YAML, null, cmd.getCommandSpec());
+    }
+
+    @Test
+    void shouldListGroupsWithCustomColumns() {
+        when(configService.isCurrentContextValid()).thenReturn(true);
+        when(loginService.doAuthenticate(any(), anyBoolean())).thenReturn(true);
+        when(resourceService.listGroups(any(), anyBoolean(), any(), any(), any())).thenReturn(0);
+
+        CommandLine cmd = new CommandLine(groupList);
+
+        int code = cmd.execute("-n", "namespace", "-o", "custom-columns=GROUP:/metadata/name,STATE:/spec/state");
+        assertEquals(0, code);
+        verify(resourceService)
+                .listGroups(
+                        "namespace",
+                        false,
+                        TABLE,
+                        List.of("GROUP:/metadata/name", "STATE:/spec/state"),
+                        cmd.getCommandSpec());
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class FieldSelectorTest {
+    private static final Resource TOPIC = Resource.builder()
+            .kind("Topic")
+            .metadata(Resource.Metadata.builder()
+                    .name("prefix.topic")
+                    .creationTimestamp(Date.from(Instant.parse("2000-01-01T01:00:00.00Z")))
+                    .build())
+            .spec(Map.of(
+                    "partitions",
+                    3,
+                    "connectCluster",
+                    "cc1",
+                    "configs",
+                    Map.of("retention.ms", "864000000", "cleanup.policy", "delete")))
+            .build();
+
+    @Test
+    void shouldCompareNumbers() {
+        assertTrue(FieldSelector.parse("/spec/configs/retention.ms>604800000").test(TOPIC));
+        assertFalse(FieldSelector.parse("/spec/configs/retention.ms<=604800000").test(TOPIC));
+        assertTrue(FieldSelector.parse("/spec/partitions=3.0").test(TOPIC));
+        assertTrue(FieldSelector.parse("/spec/partitions>=3").test(TOPIC));
+        assertFalse(FieldSelector.parse("/spec/partitions<3").test(TOPIC));
+        assertTrue(FieldSelector.parse("/metadata/creationTimestamp>946684800000").test(TOPIC));
+    }
+
+    @Test
+    void shouldCompareText() {
+        assertTrue(FieldSelector.parse("/spec/connectCluster=cc1").test(TOPIC));
+        assertTrue(FieldSelector.parse("/spec/connectCluster==cc1").test(TOPIC));
+        assertFalse(FieldSelector.parse("/spec/connectCluster!=cc1").test(TOPIC));
+        assertTrue(FieldSelector.parse("/metadata/creationTimestamp>1999-12-31").test(TOPIC));
+        assertTrue(FieldSelector.parse("/metadata/creationTimestamp<2000-01-02").test(TOPIC));
+    }
+
+    @Test
+    void shouldNotMatchMissingValues() {
+        assertFalse(FieldSelector.parse("/spec/unknown>0").test(TOPIC));
+        assertFalse(FieldSelector.parse("/spec/unknown=cc1").test(TOPIC));
+        assertTrue(FieldSelector.parse("/spec/unknown!=cc1").test(TOPIC));
+        assertTrue(FieldSelector.parse("/spec/unknown!=1").test(TOPIC));
+        assertFalse(FieldSelector.parse("/spec/connectCluster>1").test(TOPIC));
+    }
+
+    @Test
+    void shouldMatchAllRequirements() {
+        FieldSelector selector = FieldSelector.parse("/spec/configs/retention.ms>604800000, /spec/connectCluster=cc2");
+
+        assertFalse(selector.test(TOPIC));
+        assertTrue(FieldSelector.parse("/spec/configs/cleanup.policy=delete,/spec/partitions>1").test(TOPIC));
+        assertEquals("/spec/configs/retention.ms>604800000, /spec/connectCluster=cc2", selector.toString());
+    }
+
+    @Test
+    void shouldNotParseInvalidSelector() {
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> FieldSelector.parse("spec/partitions>1"));
+        assertEquals("Invalid field selector \"spec/partitions>1\".", exception.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> FieldSelector.parse("/spec/partitions"));
+        assertThrows(IllegalArgumentException.class, () -> FieldSelector.parse("/spec/partitions>1,"));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class LabelSelectorTest {
+    private static final Resource DEV_FRONT = resource(Map.of("env", "dev", "tier", "front"));
+    private static final Resource PROD_BACK = resource(Map.of("env", "prod", "tier", "back"));
+    private static final Resource UNLABELED = resource(null);
+
+    @Test
+    void shouldMatchEquality() {
+        LabelSelector selector = LabelSelector.parse("env=dev");
+
+        assertTrue(selector.test(DEV_FRONT));
+        assertFalse(selector.test(PROD_BACK));
+        assertFalse(selector.test(UNLABELED));
+        assertTrue(LabelSelector.parse("env == dev").test(DEV_FRONT));
+    }
+
+    @Test
+    void shouldMatchInequality() {
+        LabelSelector selector = LabelSelector.parse("env!=dev");
+
+        assertFalse(selector.test(DEV_FRONT));
+        assertTrue(selector.test(PROD_BACK));
+        assertTrue(selector.test(UNLABELED));
+    }
+
+    @Test
+    void shouldMatchSets() {
+        assertTrue(LabelSelector.parse("tier in (front, middle)").test(DEV_FRONT));
+        assertFalse(LabelSelector.parse("tier in (front, middle)").test(PROD_BACK));
+        assertFalse(LabelSelector.parse("tier notin (front,middle)").test(DEV_FRONT));
+        assertTrue(LabelSelector.parse("tier notin (front,middle)").test(UNLABELED));
+    }
+
+    @Test
+    void shouldMatchExistence() {
+        assertTrue(LabelSelector.parse("tier").test(PROD_BACK));
+        assertFalse(LabelSelector.parse("tier").test(UNLABELED));
+        assertFalse(LabelSelector.parse("!tier").test(PROD_BACK));
+        assertTrue(LabelSelector.parse("!tier").test(UNLABELED));
+    }
+
+    @Test
+    void shouldMatchAllRequirements() {
+        LabelSelector selector = LabelSelector.parse("env in (dev,prod),tier=back,!owner");
+
+        assertFalse(selector.test(DEV_FRONT));
+        assertTrue(selector.test(PROD_BACK));
+        assertEquals("env in (dev,prod),tier=back,!owner", selector.toString());
+    }
+
+    @Test
+    void shouldNotParseInvalidSelector() {
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> LabelSelector.parse("env=dev,"));
+        assertEquals("Invalid label selector \"env=dev,\".", exception.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> LabelSelector.parse("env=(dev)"));
+        assertThrows(IllegalArgumentException.class, () -> LabelSelector.parse("tier in front"));
+    }
+
+    private static Resource resource(Map<String, String> labels) {
+        return Resource.builder()
+                .kind("Topic")
+                .metadata(Resource.Metadata.builder().name("topic").labels(labels).build())
+                .build();
+    }
+}
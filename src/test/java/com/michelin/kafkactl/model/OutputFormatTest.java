@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OutputFormatTest {
+    @Test
+    void shouldParseOutput() {
+        assertEquals(OutputFormat.of(Output.YAML), OutputFormat.parse("yaml"));
+        assertEquals(OutputFormat.of(Output.NDJSON), OutputFormat.parse("NDJSON"));
+        assertNull(OutputFormat.parse("table").getColumns());
+        assertEquals("json", OutputFormat.parse("json").toString());
+        assertEquals(OutputFormat.of(Output.CSV), OutputFormat.parse("csv"));
+    }
+
+    @Test
+    void shouldParseCustomColumns() {
+        OutputFormat format = OutputFormat.parse(
+                "custom-columns=NAME:/metadata/name:30,TYPE:/spec/type,/spec/kind,AGE:/metadata/creationTimestamp%AGO");
+
+        assertEquals(Output.TABLE, format.getOutput());
+        assertEquals(
+                List.of("NAME:/metadata/name:30", "TYPE:/spec/type,/spec/kind", "AGE:/metadata/creationTimestamp%AGO"),
+                format.getColumns());
+        assertEquals(List.of("/spec/type", "/spec/kind"), OutputFormat.pointersOf("TYPE:/spec/type,/spec/kind"));
+        assertEquals(List.of("/metadata/name"), OutputFormat.pointersOf("NAME:/metadata/name:30"));
+    }
+
+    @Test
+    void shouldNotParseInvalidOutput() {
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> OutputFormat.parse("xml"));
+        assertEquals(
+                "Invalid output format \"xml\", expected one of yaml, yml, table, json, ndjson, csv, tsv or "
+                        + "custom-columns=COLUMNS.",
+                exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> OutputFormat.parse("custom-columns=NAME"));
+        assertEquals(
+                "Invalid custom column \"NAME\", expected NAME:JSONPOINTER[%TRANSFORM][:WIDTH].",
+                exception.getMessage());
+
+        exception = assertThrows(
+                IllegalArgumentException.class, () -> OutputFormat.parse("custom-columns=NAME:metadata/name"));
+        assertEquals("Invalid JSON pointer \"metadata/name\", it must start with '/'.", exception.getMessage());
+    }
+}
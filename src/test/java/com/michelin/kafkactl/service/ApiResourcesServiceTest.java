@@ -20,18 +20,36 @@ package com.michelin.kafkactl.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.michelin.kafkactl.client.ClusterResourceClient;
 import com.michelin.kafkactl.model.ApiResource;
+import com.michelin.kafkactl.model.ApiResourcesCache;
 import com.michelin.kafkactl.model.Resource;
+import com.michelin.kafkactl.property.KafkactlProperties;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -44,9 +62,23 @@ class ApiResourcesServiceTest {
     @Mock
     LoginService loginService;
 
+    @Mock
+    KafkactlProperties kafkactlProperties;
+
     @InjectMocks
     ApiResourcesService apiResourcesService;
 
+    @InjectMocks
+    ApiResourcesService otherApiResourcesService;
+
+    @TempDir
+    Path configDirectory;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doCallRealMethod().when(loginService).authorized(any());
+    }
+
     @Test
     void shouldListResourceDefinitions() {
         ApiResource apiResource = ApiResource.builder()
@@ -227,4 +259,153 @@ class ApiResourcesServiceTest {
 
         assertEquals(resource, actual.getFirst());
     }
+
+    @Test
+    void shouldFetchResourceDefinitionsOnce() {
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        ApiResource otherApiResource = ApiResource.builder()
+                .kind("OtherKind")
+                .path("others")
+                .names(List.of("others", "other", "ot"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(resourceClient.listResourceDefinitions(any())).thenReturn(List.of(apiResource, otherApiResource));
+
+        assertEquals(List.of(apiResource, otherApiResource), apiResourcesService.listResourceDefinitions());
+        assertEquals(Optional.of(apiResource), apiResourcesService.getResourceDefinitionByKind("Topic"));
+        assertEquals(Optional.of(otherApiResource), apiResourcesService.getResourceDefinitionByName("ot"));
+        assertEquals(Optional.of(apiResource), apiResourcesService.getResourceDefinitionByName("to"));
+
+        verify(resourceClient, times(1)).listResourceDefinitions(any());
+    }
+
+    @Test
+    void shouldWriteResourceDefinitionsToDiskCache() throws IOException {
+        mockDiskCache();
+
+        when(resourceClient.listResourceDefinitionsIfNoneMatch(any(), isNull()))
+                .thenReturn(HttpResponse.ok(List.of(buildTopicApiResource())).header(HttpHeaders.ETAG, "\"v1\""));
+
+        List<ApiResource> actual = apiResourcesService.listResourceDefinitions();
+
+        assertEquals("Topic", actual.getFirst().getKind());
+
+        ApiResourcesCache cache = readDiskCache();
+        assertEquals("http://localhost:8080", cache.getApi());
+        assertEquals("\"v1\"", cache.getEtag());
+        assertEquals("Topic", cache.getResources().getFirst().getKind());
+        assertEquals(List.of("topics", "topic", "to"), cache.getResources().getFirst().getNames());
+    }
+
+    @Test
+    void shouldReadResourceDefinitionsFromFreshDiskCache() {
+        mockDiskCache();
+
+        when(resourceClient.listResourceDefinitionsIfNoneMatch(any(), isNull()))
+                .thenReturn(HttpResponse.ok(List.of(buildTopicApiResource())));
+
+        apiResourcesService.listResourceDefinitions();
+        Optional<ApiResource> actual = otherApiResourcesService.getResourceDefinitionByName("to");
+
+        assertTrue(actual.isPresent());
+        assertEquals("Topic", actual.get().getKind());
+        verify(resourceClient, times(1)).listResourceDefinitionsIfNoneMatch(any(), any());
+    }
+
+    @Test
+    void shouldRevalidateExpiredDiskCache() throws IOException {
+        mockDiskCache();
+
+        when(resourceClient.listResourceDefinitionsIfNoneMatch(any(), isNull()))
+                .thenReturn(HttpResponse.ok(List.of(buildTopicApiResource())).header(HttpHeaders.ETAG, "\"v1\""));
+        when(resourceClient.listResourceDefinitionsIfNoneMatch(any(), eq("\"v1\"")))
+                .thenReturn(HttpResponse.notModified());
+
+        apiResourcesService.listResourceDefinitions();
+
+        ApiResourcesCache cache = readDiskCache();
+        cache.setFetchedAt(0L);
+        new ObjectMapper().writeValue(getDiskCacheFile(), cache);
+
+        Optional<ApiResource> actual = otherApiResourcesService.getResourceDefinitionByKind("Topic");
+
+        assertTrue(actual.isPresent());
+        assertTrue(readDiskCache().getFetchedAt() > 0L);
+        verify(resourceClient).listResourceDefinitionsIfNoneMatch(any(), eq("\"v1\""));
+    }
+
+    @Test
+    void shouldFetchResourceDefinitionsWhenKindMissingFromDiskCache() {
+        mockDiskCache();
+
+        ApiResource otherApiResource = ApiResource.builder()
+                .kind("OtherKind")
+                .path("others")
+                .names(List.of("others", "other", "ot"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        when(resourceClient.listResourceDefinitionsIfNoneMatch(any(), isNull()))
+                .thenReturn(HttpResponse.ok(List.of(buildTopicApiResource())))
+                .thenReturn(HttpResponse.ok(List.of(buildTopicApiResource(), otherApiResource)));
+
+        apiResourcesService.listResourceDefinitions();
+        Optional<ApiResource> actual = otherApiResourcesService.getResourceDefinitionByKind("OtherKind");
+
+        assertTrue(actual.isPresent());
+        assertEquals(otherApiResource, actual.get());
+        verify(resourceClient, times(2)).listResourceDefinitionsIfNoneMatch(any(), any());
+    }
+
+    @Test
+    void shouldRefreshResourceDefinitions() {
+        mockDiskCache();
+
+        when(resourceClient.listResourceDefinitionsIfNoneMatch(any(), isNull()))
+                .thenReturn(HttpResponse.ok(List.of(buildTopicApiResource())));
+
+        apiResourcesService.listResourceDefinitions();
+        otherApiResourcesService.refreshResourceDefinitions();
+        otherApiResourcesService.listResourceDefinitions();
+
+        verify(resourceClient, times(2)).listResourceDefinitionsIfNoneMatch(any(), any());
+    }
+
+    private void mockDiskCache() {
+        when(kafkactlProperties.getApiResourcesCacheTtl()).thenReturn(Duration.ofHours(1));
+        when(kafkactlProperties.getConfigDirectory()).thenReturn(configDirectory.toString());
+        when(kafkactlProperties.getApi()).thenReturn("http://localhost:8080");
+        when(kafkactlProperties.getUserToken()).thenReturn("token");
+    }
+
+    private File getDiskCacheFile() {
+        File[] files = configDirectory.resolve("cache").toFile().listFiles();
+        assertNotNull(files);
+        assertEquals(1, files.length);
+        return files[0];
+    }
+
+    private ApiResourcesCache readDiskCache() throws IOException {
+        return new ObjectMapper().readValue(getDiskCacheFile(), ApiResourcesCache.class);
+    }
+
+    private ApiResource buildTopicApiResource() {
+        return ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+    }
 }
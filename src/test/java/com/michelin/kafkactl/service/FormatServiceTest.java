@@ -18,17 +18,31 @@
  */
 package com.michelin.kafkactl.service;
 
+import static com.michelin.kafkactl.model.Output.CSV;
+import static com.michelin.kafkactl.model.Output.JSON;
+import static com.michelin.kafkactl.model.Output.NDJSON;
 import static com.michelin.kafkactl.model.Output.TABLE;
+import static com.michelin.kafkactl.model.Output.TSV;
 import static com.michelin.kafkactl.model.Output.YAML;
 import static com.michelin.kafkactl.model.Output.YML;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.michelin.kafkactl.Kafkactl;
 import com.michelin.kafkactl.model.ApiResource;
+import com.michelin.kafkactl.model.FieldSelector;
+import com.michelin.kafkactl.model.LabelSelector;
+import com.michelin.kafkactl.model.ListOptions;
 import com.michelin.kafkactl.model.Resource;
 import com.michelin.kafkactl.model.Status;
+import com.michelin.kafkactl.model.WatchEvent;
+import com.michelin.kafkactl.model.format.AgoFormat;
+import com.michelin.kafkactl.model.format.BytesFormat;
+import com.michelin.kafkactl.model.format.DefaultFormat;
+import com.michelin.kafkactl.model.format.NumberFormat;
+import com.michelin.kafkactl.model.format.PeriodFormat;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
@@ -43,6 +57,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 import org.junit.jupiter.api.Test;
+import org.ocpsoft.prettytime.PrettyTime;
 import picocli.CommandLine;
 
 @MicronautTest
@@ -189,6 +204,431 @@ class FormatServiceTest {
                 .find());
     }
 
+    @Test
+    void shouldDisplayFirstNonEmptyFallbackPointer() {
+        Resource resource = Resource.builder()
+                .kind("Connector")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.connector").build())
+                .spec(Map.of(
+                        "connectCluster",
+                        "connect",
+                        "config",
+                        Map.of("connector.class", "FileStreamSinkConnector", "kafka.topic", "prefix.topic")))
+                .build();
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        formatService.displayList("Connector", Collections.singletonList(resource), TABLE, cmd.getCommandSpec());
+
+        assertTrue(Pattern.compile("prefix.connector\\s+connect\\s+FileStreamSinkConnector\\s+prefix.topic")
+                .matcher(sw.toString())
+                .find());
+    }
+
+    @Test
+    void shouldDisplayValuesOfCompiledPointers() {
+        Date date = Date.from(Instant.parse("2000-01-01T01:00:00.00Z"));
+        Resource resource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .creationTimestamp(date)
+                        .status(Resource.Metadata.Status.builder()
+                                .phase(Resource.Metadata.Phase.SUCCESS)
+                                .build())
+                        .build())
+                .spec(Map.of("partitions", 3, "a/b", List.of(1, "two", Map.of())))
+                .build();
+
+        assertEquals("prefix.topic", new DefaultFormat("/metadata/name").display(resource));
+        assertEquals(
+                "2000-01-01T01:00:00.000+00:00",
+                new DefaultFormat("/metadata/creationTimestamp").display(resource));
+        assertEquals("SUCCESS", new DefaultFormat("/metadata/status/phase").display(resource));
+        assertEquals("1", new DefaultFormat("/metadata/generation").display(resource));
+        assertEquals("3", new DefaultFormat("/spec/partitions").display(resource));
+        assertEquals("1,two,", new DefaultFormat("/spec/a~1b").display(resource));
+        assertEquals("two", new DefaultFormat("/spec/a~1b/1").display(resource));
+        assertEquals("", new DefaultFormat("/spec").display(resource));
+        assertEquals("", new DefaultFormat("/spec/unknown,/status").display(resource));
+        assertEquals("3", new DefaultFormat("/spec/unknown, /spec/partitions").display(resource));
+        assertFalse(new AgoFormat("/metadata/creationTimestamp").display(resource).isEmpty());
+        assertEquals("", new AgoFormat("/metadata/updateTimestamp").display(resource));
+    }
+
+    @Test
+    void shouldStreamTableSizedFromSample() {
+        StringWriter sw = new StringWriter();
+        FormatService.StreamingTextTable table = new FormatService.StreamingTextTable(
+                List.of("TOPIC:/metadata/name", "PARTITIONS:/spec/partitions", "POLICY:/spec/cleanup.policy"),
+                2,
+                new PrintWriter(sw));
+
+        table.add(topic("a", 3));
+        assertTrue(sw.toString().isEmpty());
+
+        table.add(topic("bb", 12));
+        String[] lines = sw.toString().split(System.lineSeparator());
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].matches("TOPIC {2}PARTITIONS\\s*"));
+        assertTrue(lines[1].matches("a {6}3\\s*"));
+        assertTrue(lines[2].matches("bb {5}12\\s*"));
+
+        table.add(topic("longer.topic", 1));
+        table.close();
+        lines = sw.toString().split(System.lineSeparator());
+        assertTrue(lines[3].startsWith("longer.topic"));
+        assertTrue(sw.toString().endsWith(System.lineSeparator() + System.lineSeparator()));
+    }
+
+    @Test
+    void shouldStreamTableWithoutColumnEmptyInSample() {
+        StringWriter sw = new StringWriter();
+        FormatService.StreamingTextTable table = new FormatService.StreamingTextTable(
+                List.of("TOPIC:/metadata/name", "POLICY:/spec/cleanup.policy"), 2, new PrintWriter(sw));
+
+        table.add(topic("a", 3));
+        table.add(topic("bb", 12));
+        table.add(Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("ccc").build())
+                .spec(Map.of("cleanup.policy", "compact"))
+                .build());
+        table.close();
+
+        String[] lines = sw.toString().split(System.lineSeparator());
+        assertTrue(lines[0].matches("TOPIC\\s*"));
+        assertTrue(lines[3].matches("ccc\\s*"));
+        assertFalse(sw.toString().contains("compact"));
+    }
+
+    @Test
+    void shouldLayOutStreamedTableAsSmallTable() {
+        List<String> formats =
+                List.of("TOPIC:/metadata/name", "PARTITIONS:/spec/partitions", "POLICY:/spec/cleanup.policy");
+        List<Resource> resources = List.of(topic("a", 3), topic("bb", 12), topic("ccc", 1));
+
+        StringWriter sw = new StringWriter();
+        FormatService.StreamingTextTable table =
+                new FormatService.StreamingTextTable(formats, resources.size(), new PrintWriter(sw));
+        resources.forEach(table::add);
+        table.close();
+
+        assertEquals(
+                new FormatService.PrettyTextTable(formats, resources).toString(),
+                sw.toString().substring(0, sw.toString().length() - System.lineSeparator().length()));
+    }
+
+    @Test
+    void shouldStreamTableWithFixedWidth() {
+        StringWriter sw = new StringWriter();
+        FormatService.StreamingTextTable table = new FormatService.StreamingTextTable(
+                List.of("TOPIC:/metadata/name:8", "PARTITIONS:/spec/partitions:3"), 1, new PrintWriter(sw));
+
+        table.add(topic("a", 3));
+        table.add(topic("prefix.topic", 3));
+        table.close();
+
+        String[] lines = sw.toString().split(System.lineSeparator());
+        assertTrue(lines[0].matches("TOPIC {5}PARTITIONS\\s*"));
+        assertTrue(lines[1].matches("a {9}3\\s*"));
+        assertTrue(sw.toString().contains("prefix.topic"));
+    }
+
+    @Test
+    void shouldNotStreamTableWithInvalidWidth() {
+        PrintWriter writer = new PrintWriter(new StringWriter());
+        List<String> formats = List.of("TOPIC:/metadata/name:wide");
+
+        assertThrows(IllegalStateException.class, () -> new FormatService.StreamingTextTable(formats, 10, writer));
+    }
+
+    @Test
+    void shouldDisplayStreamFromFirstResourceKind() {
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        formatService.displayStream(
+                List.of(topic("prefix.topic", 3), topic("prefix.other", 6)).iterator(), TABLE, cmd.getCommandSpec());
+
+        assertTrue(sw.toString().contains("TOPIC"));
+        assertTrue(sw.toString().contains("prefix.topic"));
+        assertTrue(sw.toString().contains("prefix.other"));
+    }
+
+    @Test
+    void shouldDisplayStreamYaml() {
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        formatService.displayStream(
+                List.of(topic("prefix.topic", 3), topic("prefix.other", 6)).iterator(), YAML, cmd.getCommandSpec());
+
+        assertTrue(sw.toString().contains("  name: prefix.topic"));
+        assertTrue(sw.toString().contains("  name: prefix.other"));
+    }
+
+    @Test
+    void shouldDisplayListJson() {
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        formatService.displayList("Topic", List.of(topic("prefix.topic", 3)), JSON, cmd.getCommandSpec());
+
+        assertTrue(sw.toString().startsWith("["));
+        assertTrue(sw.toString().contains("\"name\" : \"prefix.topic\""));
+        assertTrue(sw.toString().contains("\"partitions\" : 3"));
+        assertFalse(sw.toString().contains("null"));
+    }
+
+    @Test
+    void shouldDisplayStreamNdjson() {
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        formatService.displayStream(
+                List.of(topic("prefix.topic", 3), topic("prefix.other", 6)).iterator(), NDJSON, cmd.getCommandSpec());
+
+        String[] lines = sw.toString().split(System.lineSeparator());
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"apiVersion\":\"v1\",\"kind\":\"Topic\""));
+        assertTrue(lines[0].contains("\"name\":\"prefix.topic\""));
+        assertTrue(lines[1].contains("\"name\":\"prefix.other\""));
+    }
+
+    @Test
+    void shouldDisplayListYamlOneDocumentPerResource() {
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        formatService.displayList(
+                "Topic", List.of(topic("prefix.topic", 3), topic("prefix.other", 6)), YAML, cmd.getCommandSpec());
+        formatService.displayList("Topic", List.of(topic("prefix.last", 1)), YAML, cmd.getCommandSpec());
+
+        assertEquals(3, sw.toString().split("---", -1).length - 1);
+        assertTrue(sw.toString().indexOf("prefix.topic") < sw.toString().indexOf("prefix.other"));
+        assertTrue(sw.toString().contains("  name: prefix.last"));
+    }
+
+    @Test
+    void shouldDisplayTransformedValues() {
+        Resource resource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.topic").build())
+                .spec(Map.of(
+                        "bytes", "1610612736",
+                        "small", 512,
+                        "unlimited", -1,
+                        "count", 1234567,
+                        "ratio", 0.5,
+                        "ms", "5415000",
+                        "short", 250,
+                        "iso", "PT1H30M",
+                        "date", "2000-01-01T01:00:00.000+0000",
+                        "text", "not a number"))
+                .build();
+
+        assertEquals("1.5GiB", new BytesFormat("/spec/bytes").display(resource));
+        assertEquals("512B", new BytesFormat("/spec/small").display(resource));
+        assertEquals("-1B", new BytesFormat("/spec/unlimited").display(resource));
+        assertEquals("", new BytesFormat("/spec/text").display(resource));
+        assertEquals("1,234,567", new NumberFormat("/spec/count").display(resource));
+        assertEquals("0.5", new NumberFormat("/spec/ratio").display(resource));
+        assertEquals("", new NumberFormat("/spec/text").display(resource));
+        assertEquals("1h30m15s", new PeriodFormat("/spec/ms", true).display(resource));
+        assertEquals("250ms", new PeriodFormat("/spec/short", true).display(resource));
+        assertEquals("1h30m", new PeriodFormat("/spec/iso", true).display(resource));
+        assertEquals("", new PeriodFormat("/spec/unlimited", true).display(resource));
+        assertEquals("", new PeriodFormat("/spec/text", true).display(resource));
+        assertEquals("1h30m", new PeriodFormat("/spec/ms").display(resource));
+        assertEquals("1h30m", new PeriodFormat("/spec/iso").display(resource));
+        assertEquals("", new PeriodFormat("/spec/short").display(resource));
+        assertEquals("", new PeriodFormat("/spec/text").display(resource));
+        assertFalse(new AgoFormat("/spec/date").display(resource).isEmpty());
+        assertEquals("", new AgoFormat("/spec/text").display(resource));
+    }
+
+    @Test
+    void shouldDisplayAgoOfEpochMillis() {
+        Resource resource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.topic").build())
+                .spec(Map.of("text", "946688400000", "number", 946688400000L))
+                .build();
+
+        assertFalse(new AgoFormat("/spec/text").display(resource).isEmpty());
+        assertFalse(new AgoFormat("/spec/number").display(resource).isEmpty());
+    }
+
+    @Test
+    void shouldDisplayAgoOfDate() {
+        Resource resource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.topic").build())
+                .spec(Map.of("date", "2000-01-01", "invalid", "2000-13-01"))
+                .build();
+
+        assertEquals(
+                new PrettyTime().format(Date.from(Instant.parse("2000-01-01T00:00:00Z"))),
+                new AgoFormat("/spec/date").display(resource));
+        assertEquals("", new AgoFormat("/spec/invalid").display(resource));
+    }
+
+    @Test
+    void shouldNotDisplayTableWithUnknownTransform() {
+        List<String> formats = List.of("TOPIC:/metadata/name%UNKNOWN");
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class, () -> new FormatService.PrettyTextTable(formats, List.of()));
+
+        assertTrue(exception.getMessage().startsWith("Unknown transform \"UNKNOWN\""));
+    }
+
+    @Test
+    void shouldDisplayNoResourceMatchingSelectors() {
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        formatService.displayNoResource(
+                "Topic",
+                ListOptions.builder()
+                        .selector(LabelSelector.parse("env=dev"))
+                        .fieldSelector(FieldSelector.parse("/spec/partitions>3"))
+                        .build(),
+                cmd.getCommandSpec());
+
+        assertEquals(
+                "No topic matches selector \"env=dev\" and field selector \"/spec/partitions>3\"."
+                        + System.lineSeparator(),
+                sw.toString());
+    }
+
+    @Test
+    void shouldDisplayListCsv() {
+        Resource resource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.topic").build())
+                .spec(Map.of("configs", Map.of("cleanup.policy", "delete,compact")))
+                .build();
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        formatService.displayList(
+                "Topic",
+                List.of(resource, topic("prefix.\"quoted\"", 3)),
+                CSV,
+                List.of(
+                        "TOPIC:/metadata/name",
+                        "POLICY:/spec/configs/cleanup.policy",
+                        "AGE:/metadata/creationTimestamp"),
+                cmd.getCommandSpec());
+
+        assertEquals(
+                String.join(
+                        System.lineSeparator(),
+                        "TOPIC,POLICY,AGE",
+                        "prefix.topic,\"delete,compact\",",
+                        "\"prefix.\"\"quoted\"\"\",,",
+                        ""),
+                sw.toString());
+    }
+
+    @Test
+    void shouldDisplayListTsvFromTableFormat() {
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        formatService.displayList("Topic", List.of(topic("prefix.topic", 3)), TSV, cmd.getCommandSpec());
+
+        String[] lines = sw.toString().split(System.lineSeparator());
+        assertEquals("TOPIC\tRETENTION\tPOLICY\tAGE", lines[0]);
+        assertEquals("prefix.topic\t\t\t", lines[1]);
+    }
+
+    @Test
+    void shouldDisplayCustomColumns() {
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        formatService.displayList(
+                "Topic",
+                List.of(topic("prefix.topic", 3), topic("prefix.other", 12)),
+                TABLE,
+                List.of("NAME:/metadata/name", "PARTS:/spec/partitions"),
+                cmd.getCommandSpec());
+
+        String[] lines = sw.toString().split(System.lineSeparator());
+        assertTrue(lines[0].matches("NAME\\s+PARTS\\s*"));
+        assertTrue(lines[1].matches("prefix\\.topic\\s+3\\s*"));
+        assertTrue(lines[2].matches("prefix\\.other\\s+12\\s*"));
+    }
+
+    @Test
+    void shouldDisplayEventsTable() {
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        formatService.displayEvents(
+                "Topic",
+                List.of(
+                        new WatchEvent(WatchEvent.Type.MODIFIED, topic("prefix.topic", 6)),
+                        new WatchEvent(WatchEvent.Type.DELETED, topic("prefix.other", 3))),
+                TABLE,
+                null,
+                cmd.getCommandSpec());
+
+        String[] lines = sw.toString().split(System.lineSeparator());
+        assertTrue(lines[0].matches("EVENT\\s+TOPIC.*"));
+        assertTrue(lines[1].matches("MODIFIED\\s+prefix\\.topic.*"));
+        assertTrue(lines[2].matches("DELETED\\s+prefix\\.other.*"));
+    }
+
+    @Test
+    void shouldDisplayEventsNdjson() {
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        formatService.displayEvents(
+                "Topic",
+                List.of(new WatchEvent(WatchEvent.Type.ADDED, topic("prefix.topic", 3))),
+                NDJSON,
+                null,
+                cmd.getCommandSpec());
+
+        assertTrue(sw.toString().startsWith("{\"type\":\"ADDED\",\"object\":{\"apiVersion\":\"v1\""));
+        assertTrue(sw.toString().contains("\"name\":\"prefix.topic\""));
+    }
+
+    private Resource topic(String name, int partitions) {
+        return Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name(name).build())
+                .spec(Map.of("partitions", partitions))
+                .build();
+    }
+
     @Test
     void shouldDisplayConsumerGroupListWithOffsets() {
         Resource firstOffset = Resource.builder()
@@ -534,6 +974,25 @@ class FormatServiceTest {
         assertTrue(sw.toString().contains("Topic failed because error (500)."));
     }
 
+    @Test
+    void shouldDisplayErrorWithNamespace() {
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setErr(new PrintWriter(sw));
+
+        HttpClientResponseException exception = new HttpClientResponseException(
+                "error",
+                HttpResponse.serverError(Status.builder()
+                        .message("An error occurred")
+                        .reason("")
+                        .code(500)
+                        .build()));
+
+        formatService.displayError(exception, "Topic", "*", "namespace", cmd.getCommandSpec());
+
+        assertTrue(sw.toString().contains("Topic in namespace \"namespace\" failed because error (500)."));
+    }
+
     @Test
     void shouldDisplayErrorWithNameButNoStatus() {
         CommandLine cmd = new CommandLine(new Kafkactl());
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.michelin.kafkactl.model.Resource;
+import com.michelin.kafkactl.property.KafkactlProperties;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class JournalServiceTest {
+    @Mock
+    KafkactlProperties kafkactlProperties;
+
+    @InjectMocks
+    JournalService journalService;
+
+    @TempDir
+    Path configDirectory;
+
+    @Test
+    void shouldReadEmptyJournalWhenNotExist() {
+        when(kafkactlProperties.getConfigDirectory()).thenReturn(configDirectory.toString());
+        when(kafkactlProperties.getApi()).thenReturn("http://localhost:8080");
+
+        assertTrue(journalService.readJournal("namespace").isEmpty());
+    }
+
+    @Test
+    void shouldWriteAndReadJournal() throws IOException {
+        when(kafkactlProperties.getConfigDirectory()).thenReturn(configDirectory.toString());
+        when(kafkactlProperties.getApi()).thenReturn("http://localhost:8080");
+        when(kafkactlProperties.getUserToken()).thenReturn("token");
+
+        journalService.writeJournal("namespace", Map.of("Topic/prefix.topic", "hash"));
+
+        assertEquals(Map.of("Topic/prefix.topic", "hash"), journalService.readJournal("namespace"));
+        assertTrue(journalService.readJournal("otherNamespace").isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreJournalOfAnotherContext() throws IOException {
+        when(kafkactlProperties.getConfigDirectory()).thenReturn(configDirectory.toString());
+        when(kafkactlProperties.getApi()).thenReturn("http://localhost:8080");
+        when(kafkactlProperties.getUserToken()).thenReturn("token").thenReturn("otherToken");
+
+        journalService.writeJournal("namespace", Map.of("Topic/prefix.topic", "hash"));
+
+        assertTrue(journalService.readJournal("namespace").isEmpty());
+    }
+
+    @Test
+    void shouldHashIndependentlyOfFieldOrder() {
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("replicationFactor", 3);
+        spec.put("partitions", 3);
+
+        Map<String, Object> reorderedSpec = new LinkedHashMap<>();
+        reorderedSpec.put("partitions", 3);
+        reorderedSpec.put("replicationFactor", 3);
+
+        Resource topic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.topic").build())
+                .spec(spec)
+                .build();
+
+        Resource reorderedTopic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.topic").build())
+                .spec(reorderedSpec)
+                .build();
+
+        Resource changedTopic = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.topic").build())
+                .spec(Map.of("partitions", 6, "replicationFactor", 3))
+                .build();
+
+        assertEquals("Topic/prefix.topic", JournalService.key(topic));
+        assertEquals(JournalService.hash(topic), JournalService.hash(reorderedTopic));
+        assertNotEquals(JournalService.hash(topic), JournalService.hash(changedTopic));
+    }
+}
@@ -25,8 +25,12 @@ import static com.michelin.kafkactl.model.JwtContent.RoleBinding.Verb.PUT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.michelin.kafkactl.Kafkactl;
@@ -42,10 +46,17 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -340,4 +351,201 @@ class LoginServiceTest {
         LoginService loginService = new LoginService(kafkactlProperties, clusterResourceClient);
         assertTrue(loginService.jwtFileExists());
     }
+
+    @Test
+    void shouldBeAuthenticatedWithoutTokenInfoWhenJwtLocallyValid() throws IOException {
+        writeJwtFile(Instant.now().plus(1, ChronoUnit.HOURS));
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        when(kafkactlProperties.getConfigDirectory()).thenReturn("src/test/resources/fake-login");
+
+        LoginService loginService = new LoginService(kafkactlProperties, clusterResourceClient);
+
+        boolean actual = loginService.isAuthenticated(cmd.getCommandSpec(), true);
+        assertTrue(sw.toString().contains("Authentication reused. Welcome username!"));
+        assertTrue(sw.toString().contains("Your session is valid until"));
+        assertTrue(actual);
+        assertTrue(loginService.getAuthorization().startsWith("Bearer eyJ"));
+        verify(clusterResourceClient, never()).tokenInfo(any());
+    }
+
+    @Test
+    void shouldCallTokenInfoWhenJwtCloseToExpiry() throws IOException {
+        writeJwtFile(Instant.now().plus(1, ChronoUnit.MINUTES));
+
+        UserInfoResponse userInfoResponse = new UserInfoResponse();
+        userInfoResponse.setUsername("username");
+        userInfoResponse.setExp(10);
+        userInfoResponse.setActive(true);
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+
+        when(kafkactlProperties.getConfigDirectory()).thenReturn("src/test/resources/fake-login");
+        when(kafkactlProperties.getTokenExpiryMargin()).thenReturn(Duration.ofMinutes(5));
+        when(clusterResourceClient.tokenInfo(any())).thenReturn(userInfoResponse);
+
+        LoginService loginService = new LoginService(kafkactlProperties, clusterResourceClient);
+
+        boolean actual = loginService.isAuthenticated(cmd.getCommandSpec(), false);
+        assertTrue(actual);
+        verify(clusterResourceClient).tokenInfo(any());
+    }
+
+    @Test
+    void shouldRenewAuthenticationOnce() {
+        BearerAccessRefreshToken bearerAccessRefreshToken = new BearerAccessRefreshToken();
+        bearerAccessRefreshToken.setUsername("username");
+        bearerAccessRefreshToken.setAccessToken("newAccessToken");
+        bearerAccessRefreshToken.setTokenType("tokenType");
+        bearerAccessRefreshToken.setExpiresIn(1);
+        bearerAccessRefreshToken.setRoles(Collections.singletonList("user"));
+
+        when(kafkactlProperties.getConfigDirectory()).thenReturn("src/test/resources/fake-login");
+        when(kafkactlProperties.getUserToken()).thenReturn("userToken");
+        when(clusterResourceClient.login(any())).thenReturn(bearerAccessRefreshToken);
+
+        LoginService loginService = new LoginService(kafkactlProperties, clusterResourceClient);
+        String rejectedAuthorization = loginService.getAuthorization();
+
+        assertTrue(loginService.renewAuthentication(rejectedAuthorization));
+        assertEquals("Bearer newAccessToken", loginService.getAuthorization());
+
+        // Already renewed by a concurrent request
+        assertTrue(loginService.renewAuthentication(rejectedAuthorization));
+
+        // Rejected again after renewal
+        assertFalse(loginService.renewAuthentication("Bearer newAccessToken"));
+        verify(clusterResourceClient, times(1)).login(any());
+    }
+
+    @Test
+    void shouldNotRenewAuthenticationWhenLoginFails() {
+        HttpClientResponseException exception = new HttpClientResponseException("error", HttpResponse.unauthorized());
+
+        when(kafkactlProperties.getConfigDirectory()).thenReturn("src/test/resources/fake-login");
+        when(clusterResourceClient.login(any())).thenThrow(exception);
+
+        LoginService loginService = new LoginService(kafkactlProperties, clusterResourceClient);
+
+        assertFalse(loginService.renewAuthentication(loginService.getAuthorization()));
+    }
+
+    @Test
+    void shouldReplayRequestWhenAuthorizationRejected() {
+        BearerAccessRefreshToken bearerAccessRefreshToken = new BearerAccessRefreshToken();
+        bearerAccessRefreshToken.setUsername("username");
+        bearerAccessRefreshToken.setAccessToken("newAccessToken");
+        bearerAccessRefreshToken.setTokenType("tokenType");
+        bearerAccessRefreshToken.setExpiresIn(1);
+        bearerAccessRefreshToken.setRoles(Collections.singletonList("user"));
+
+        when(kafkactlProperties.getConfigDirectory()).thenReturn("src/test/resources/fake-login");
+        when(kafkactlProperties.getUserToken()).thenReturn("userToken");
+        when(clusterResourceClient.login(any())).thenReturn(bearerAccessRefreshToken);
+
+        LoginService loginService = new LoginService(kafkactlProperties, clusterResourceClient);
+        String actual = loginService.authorized(token -> {
+            if (!token.equals("Bearer newAccessToken")) {
+                throw new HttpClientResponseException("error", HttpResponse.unauthorized());
+            }
+            return "response";
+        });
+
+        assertEquals("response", actual);
+        verify(clusterResourceClient, times(1)).login(any());
+    }
+
+    @Test
+    void shouldRenewAuthenticationEachTimeTokenExpiresDuringWatch() {
+        BearerAccessRefreshToken firstRenewal = new BearerAccessRefreshToken();
+        firstRenewal.setUsername("username");
+        firstRenewal.setAccessToken("firstRenewedToken");
+        firstRenewal.setTokenType("tokenType");
+        firstRenewal.setExpiresIn(1);
+        firstRenewal.setRoles(Collections.singletonList("user"));
+
+        BearerAccessRefreshToken secondRenewal = new BearerAccessRefreshToken();
+        secondRenewal.setUsername("username");
+        secondRenewal.setAccessToken("secondRenewedToken");
+        secondRenewal.setTokenType("tokenType");
+        secondRenewal.setExpiresIn(1);
+        secondRenewal.setRoles(Collections.singletonList("user"));
+
+        when(kafkactlProperties.getConfigDirectory()).thenReturn("src/test/resources/fake-login");
+        when(kafkactlProperties.getUserToken()).thenReturn("userToken");
+        when(clusterResourceClient.login(any())).thenReturn(firstRenewal).thenReturn(secondRenewal);
+
+        LoginService loginService = new LoginService(kafkactlProperties, clusterResourceClient);
+        List<String> expired = new ArrayList<>(List.of(loginService.getAuthorization()));
+        Function<String, String> poll = token -> {
+            if (expired.contains(token)) {
+                throw new HttpClientResponseException("error", HttpResponse.unauthorized());
+            }
+            return token;
+        };
+
+        // The initial token expires
+        assertEquals("Bearer firstRenewedToken", loginService.authorized(poll));
+        assertEquals("Bearer firstRenewedToken", loginService.authorized(poll));
+
+        // The renewed token expires after being accepted
+        expired.add("Bearer firstRenewedToken");
+        assertEquals("Bearer secondRenewedToken", loginService.authorized(poll));
+        verify(clusterResourceClient, times(2)).login(any());
+    }
+
+    @Test
+    void shouldNotRenewAuthenticationAgainWhenRenewedTokenRejectedBeforeAccepted() {
+        BearerAccessRefreshToken bearerAccessRefreshToken = new BearerAccessRefreshToken();
+        bearerAccessRefreshToken.setUsername("username");
+        bearerAccessRefreshToken.setAccessToken("newAccessToken");
+        bearerAccessRefreshToken.setTokenType("tokenType");
+        bearerAccessRefreshToken.setExpiresIn(1);
+        bearerAccessRefreshToken.setRoles(Collections.singletonList("user"));
+
+        HttpClientResponseException exception = new HttpClientResponseException("error", HttpResponse.unauthorized());
+
+        when(kafkactlProperties.getConfigDirectory()).thenReturn("src/test/resources/fake-login");
+        when(kafkactlProperties.getUserToken()).thenReturn("userToken");
+        when(clusterResourceClient.login(any())).thenReturn(bearerAccessRefreshToken);
+
+        LoginService loginService = new LoginService(kafkactlProperties, clusterResourceClient);
+
+        assertThrows(HttpClientResponseException.class, () -> loginService.authorized(token -> {
+            throw exception;
+        }));
+        assertThrows(HttpClientResponseException.class, () -> loginService.authorized(token -> {
+            throw exception;
+        }));
+        verify(clusterResourceClient, times(1)).login(any());
+    }
+
+    @Test
+    void shouldNotReplayRequestWhenNotUnauthorized() {
+        HttpClientResponseException exception = new HttpClientResponseException("error", HttpResponse.notFound());
+
+        when(kafkactlProperties.getConfigDirectory()).thenReturn("src/test/resources/fake-login");
+
+        LoginService loginService = new LoginService(kafkactlProperties, clusterResourceClient);
+        HttpClientResponseException actual =
+                assertThrows(HttpClientResponseException.class, () -> loginService.authorized(token -> {
+                    throw exception;
+                }));
+
+        assertEquals(exception, actual);
+        verify(clusterResourceClient, never()).login(any());
+    }
+
+    private void writeJwtFile(Instant expiry) throws IOException {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"sub\":\"username\",\"exp\":" + expiry.getEpochSecond() + "}")
+                .getBytes(StandardCharsets.UTF_8));
+        Files.writeString(
+                Paths.get("src/test/resources/fake-login/jwt"),
+                "{\"access_token\":\"" + header + "." + payload + ".signature\"}");
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.michelin.kafkactl.model.Resource;
+import com.michelin.kafkactl.property.KafkactlProperties;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceCacheServiceTest {
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    @Mock
+    KafkactlProperties kafkactlProperties;
+
+    @InjectMocks
+    ResourceCacheService resourceCacheService;
+
+    @TempDir
+    Path configDirectory;
+
+    @Test
+    void shouldReadEmptyCacheWhenNotExist() {
+        when(kafkactlProperties.getConfigDirectory()).thenReturn(configDirectory.toString());
+        when(kafkactlProperties.getApi()).thenReturn("http://localhost:8080");
+        when(kafkactlProperties.getUserToken()).thenReturn("token");
+
+        assertTrue(resourceCacheService.read("namespace", "Topic", "*", null, TTL).isEmpty());
+    }
+
+    @Test
+    void shouldWriteAndReadCache() {
+        when(kafkactlProperties.getConfigDirectory()).thenReturn(configDirectory.toString());
+        when(kafkactlProperties.getApi()).thenReturn("http://localhost:8080");
+        when(kafkactlProperties.getUserToken()).thenReturn("token");
+
+        resourceCacheService.write("namespace", "Topic", "*", null, List.of(topic("prefix.topic")));
+
+        assertEquals(
+                List.of(topic("prefix.topic")),
+                resourceCacheService.read("namespace", "Topic", "*", null, TTL).orElseThrow());
+        assertTrue(resourceCacheService
+                .read("namespace", "Topic", "prefix.*", null, TTL)
+                .isEmpty());
+        assertTrue(resourceCacheService
+                .read("namespace", "Topic", "*", Map.of("param", "value"), TTL)
+                .isEmpty());
+        assertTrue(resourceCacheService
+                .read("otherNamespace", "Topic", "*", null, TTL)
+                .isEmpty());
+    }
+
+    @Test
+    void shouldNotReadExpiredCache() {
+        when(kafkactlProperties.getConfigDirectory()).thenReturn(configDirectory.toString());
+        when(kafkactlProperties.getApi()).thenReturn("http://localhost:8080");
+        when(kafkactlProperties.getUserToken()).thenReturn("token");
+
+        resourceCacheService.write("namespace", "Topic", "*", null, List.of(topic("prefix.topic")));
+
+        assertTrue(resourceCacheService
+                .read("namespace", "Topic", "*", null, Duration.ZERO)
+                .isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreCacheOfAnotherContext() {
+        when(kafkactlProperties.getConfigDirectory()).thenReturn(configDirectory.toString());
+        when(kafkactlProperties.getApi()).thenReturn("http://localhost:8080");
+        when(kafkactlProperties.getUserToken()).thenReturn("token").thenReturn("otherToken");
+
+        resourceCacheService.write("namespace", "Topic", "*", null, List.of(topic("prefix.topic")));
+
+        assertTrue(resourceCacheService.read("namespace", "Topic", "*", null, TTL).isEmpty());
+    }
+
+    @Test
+    void shouldInvalidateCacheOfKind() {
+        when(kafkactlProperties.getConfigDirectory()).thenReturn(configDirectory.toString());
+        when(kafkactlProperties.getApi()).thenReturn("http://localhost:8080");
+        when(kafkactlProperties.getUserToken()).thenReturn("token");
+
+        resourceCacheService.write("namespace", "Topic", "*", null, List.of(topic("prefix.topic")));
+        resourceCacheService.write("namespace", "Topic", "prefix.*", null, List.of(topic("prefix.topic")));
+        resourceCacheService.write("namespace", "Connector", "*", null, List.of());
+
+        resourceCacheService.invalidate("namespace", "Topic");
+
+        assertTrue(resourceCacheService.read("namespace", "Topic", "*", null, TTL).isEmpty());
+        assertTrue(resourceCacheService
+                .read("namespace", "Topic", "prefix.*", null, TTL)
+                .isEmpty());
+        assertEquals(
+                List.of(),
+                resourceCacheService
+                        .read("namespace", "Connector", "*", null, TTL)
+                        .orElseThrow());
+    }
+
+    private static Resource topic(String name) {
+        return Resource.builder()
+                .apiVersion("v1")
+                .kind("Topic")
+                .metadata(Resource.Metadata.builder()
+                        .name(name)
+                        .namespace("namespace")
+                        .build())
+                .spec(Map.of("partitions", 3))
+                .build();
+    }
+}
@@ -640,4 +640,157 @@ class ResourceServicePrepareResourcesTest {
         assertEquals("abc.customer1-value", actual.getFirst().getMetadata().getName());
         assertEquals("abc.customer2-value", actual.get(1).getMetadata().getName());
     }
+
+    @Test
+    void shouldGroupPreparedResourcesByPhase() {
+        Resource namespace = Resource.builder()
+                .kind("Namespace")
+                .metadata(Resource.Metadata.builder().name("namespace").build())
+                .build();
+        Resource roleBinding = Resource.builder()
+                .kind("RoleBinding")
+                .metadata(Resource.Metadata.builder().name("roleBinding").build())
+                .build();
+        Resource schema = Resource.builder()
+                .kind("Schema")
+                .metadata(Resource.Metadata.builder().name("schema").build())
+                .spec(Map.of(SCHEMA_FIELD, "{}"))
+                .build();
+        Resource referencingSchemaOne = Resource.builder()
+                .kind("Schema")
+                .metadata(Resource.Metadata.builder().name("referencingSchemaOne").build())
+                .spec(Map.of(REFERENCES_FIELD, List.of()))
+                .build();
+        Resource referencingSchemaTwo = Resource.builder()
+                .kind("Schema")
+                .metadata(Resource.Metadata.builder().name("referencingSchemaTwo").build())
+                .spec(Map.of(REFERENCES_FIELD, List.of()))
+                .build();
+        Resource topic = Resource.builder()
+                .kind("Topic")
+                .metadata(Resource.Metadata.builder().name("topic").build())
+                .build();
+        Resource connector = Resource.builder()
+                .kind("Connector")
+                .metadata(Resource.Metadata.builder().name("connector").build())
+                .build();
+
+        List<List<Resource>> actual = ResourceService.groupByPhase(List.of(
+                namespace, roleBinding, schema, referencingSchemaOne, referencingSchemaTwo, topic, connector));
+
+        assertEquals(
+                List.of(
+                        List.of(namespace),
+                        List.of(roleBinding),
+                        List.of(schema),
+                        List.of(referencingSchemaOne),
+                        List.of(referencingSchemaTwo),
+                        List.of(topic, connector)),
+                actual);
+    }
+
+    @Test
+    void shouldApplyConnectClustersFirstAndRedeclaredResourcesInFileOrder() {
+        Resource topic = Resource.builder()
+                .kind("Topic")
+                .metadata(Resource.Metadata.builder().name("topic").build())
+                .build();
+        Resource connectCluster = Resource.builder()
+                .kind("ConnectCluster")
+                .metadata(Resource.Metadata.builder().name("connectCluster").build())
+                .build();
+        Resource connector = Resource.builder()
+                .kind("Connector")
+                .metadata(Resource.Metadata.builder().name("connector").build())
+                .spec(Map.of("connectCluster", "connectCluster"))
+                .build();
+        Resource topicAgain = Resource.builder()
+                .kind("Topic")
+                .metadata(Resource.Metadata.builder().name("topic").build())
+                .build();
+        Resource schema = Resource.builder()
+                .kind("Schema")
+                .metadata(Resource.Metadata.builder().name("subject-value").build())
+                .spec(Map.of())
+                .build();
+        Resource schemaAgain = Resource.builder()
+                .kind("Schema")
+                .metadata(Resource.Metadata.builder().name("subject-value").build())
+                .spec(Map.of())
+                .build();
+
+        List<List<Resource>> actual = ResourceService.groupByPhase(
+                List.of(schema, schemaAgain, topic, connectCluster, connector, topicAgain));
+
+        assertEquals(
+                List.of(
+                        List.of(schema),
+                        List.of(schemaAgain),
+                        List.of(connectCluster),
+                        List.of(topic, connector),
+                        List.of(topicAgain)),
+                actual);
+    }
+
+    @Test
+    void shouldGroupByDeletionPhase() {
+        Resource namespace = Resource.builder()
+                .kind("Namespace")
+                .metadata(Resource.Metadata.builder().name("namespace").build())
+                .build();
+        Resource acl = Resource.builder()
+                .kind("AccessControlEntry")
+                .metadata(Resource.Metadata.builder().name("acl").build())
+                .build();
+        Resource base = Resource.builder()
+                .kind("Schema")
+                .metadata(Resource.Metadata.builder().name("base-value").build())
+                .spec(Map.of())
+                .build();
+        Resource middle = Resource.builder()
+                .kind("Schema")
+                .metadata(Resource.Metadata.builder().name("middle-value").build())
+                .spec(Map.of(
+                        REFERENCES_FIELD,
+                        List.of(Map.of("name", "com.michelin.Base", "subject", "base-value", "version", 1))))
+                .build();
+        Resource top = Resource.builder()
+                .kind("Schema")
+                .metadata(Resource.Metadata.builder().name("top-value").build())
+                .spec(Map.of(
+                        REFERENCES_FIELD,
+                        List.of(Map.of("name", "com.michelin.Middle", "subject", "middle-value", "version", 1))))
+                .build();
+        Resource other = Resource.builder()
+                .kind("Schema")
+                .metadata(Resource.Metadata.builder().name("other-value").build())
+                .spec(Map.of())
+                .build();
+        Resource topic = Resource.builder()
+                .kind("Topic")
+                .metadata(Resource.Metadata.builder().name("topic").build())
+                .build();
+        Resource connector = Resource.builder()
+                .kind("Connector")
+                .metadata(Resource.Metadata.builder().name("connector").build())
+                .build();
+        Resource connectCluster = Resource.builder()
+                .kind("ConnectCluster")
+                .metadata(Resource.Metadata.builder().name("connectCluster").build())
+                .build();
+
+        List<List<Resource>> actual = ResourceService.groupByDeletionPhase(
+                List.of(namespace, topic, connectCluster, base, acl, middle, top, other, connector));
+
+        assertEquals(
+                List.of(
+                        List.of(topic, connector),
+                        List.of(connectCluster),
+                        List.of(top, other),
+                        List.of(middle),
+                        List.of(base),
+                        List.of(acl),
+                        List.of(namespace)),
+                actual);
+    }
 }
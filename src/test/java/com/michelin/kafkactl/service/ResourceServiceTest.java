@@ -36,36 +36,58 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.michelin.kafkactl.Kafkactl;
 import com.michelin.kafkactl.client.ClusterResourceClient;
 import com.michelin.kafkactl.client.NamespacedResourceClient;
+import com.michelin.kafkactl.client.ResourceStreamClient;
 import com.michelin.kafkactl.model.ApiResource;
+import com.michelin.kafkactl.model.FieldSelector;
+import com.michelin.kafkactl.model.LabelSelector;
+import com.michelin.kafkactl.model.ListOptions;
 import com.michelin.kafkactl.model.Resource;
 import com.michelin.kafkactl.model.SubjectCompatibility;
+import com.michelin.kafkactl.model.WatchEvent;
 import com.michelin.kafkactl.model.request.DeleteResourceRequest;
+import com.michelin.kafkactl.property.KafkactlProperties;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import java.io.File;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
 import picocli.CommandLine;
 import picocli.CommandLine.ParameterException;
 
@@ -77,6 +99,9 @@ class ResourceServiceTest {
     @Mock
     ClusterResourceClient nonNamespacedClient;
 
+    @Mock
+    ResourceStreamClient streamClient;
+
     @Mock
     LoginService loginService;
 
@@ -86,9 +111,23 @@ class ResourceServiceTest {
     @Mock
     FileService fileService;
 
+    @Mock
+    ApiResourcesService apiResourcesService;
+
+    @Mock
+    ResourceCacheService resourceCacheService;
+
+    @Mock
+    KafkactlProperties kafkactlProperties;
+
     @InjectMocks
     ResourceService resourceService;
 
+    @BeforeEach
+    void setUp() {
+        lenient().doCallRealMethod().when(loginService).authorized(any());
+    }
+
     @Test
     void shouldListNamespacedApiResource() {
         ApiResource apiResource = ApiResource.builder()
@@ -111,13 +150,105 @@ class ResourceServiceTest {
 
         CommandLine cmd = new CommandLine(new Kafkactl());
 
-        when(namespacedClient.list(any(), any(), any(), any())).thenReturn(Collections.singletonList(resource));
+        when(namespacedClient.stream(any(), any(), any(), any())).thenReturn(Publishers.just(resource));
+
+        List<Resource> displayed = new ArrayList<>();
+        doAnswer(invocation -> {
+                    invocation.<Iterator<Resource>>getArgument(0).forEachRemaining(displayed::add);
+                    return null;
+                })
+                .when(formatService)
+                .displayStream(any(), eq(TABLE), isNull(), eq(cmd.getCommandSpec()));
 
         int actual = resourceService.list(
                 Collections.singletonList(apiResource), "namespace", "*", Map.of(), TABLE, cmd.getCommandSpec());
 
         assertEquals(0, actual);
-        verify(formatService).displayList("Topic", Collections.singletonList(resource), TABLE, cmd.getCommandSpec());
+        assertEquals(List.of(resource), displayed);
+    }
+
+    @Test
+    void shouldListApiResourceFromCache() {
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        Resource resource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.topic").build())
+                .spec(Map.of())
+                .build();
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+
+        when(resourceCacheService.read("namespace", "Topic", "*", Map.of(), Duration.ofSeconds(30)))
+                .thenReturn(Optional.of(List.of(resource)));
+
+        List<Resource> displayed = new ArrayList<>();
+        doAnswer(invocation -> {
+                    invocation.<Iterator<Resource>>getArgument(0).forEachRemaining(displayed::add);
+                    return null;
+                })
+                .when(formatService)
+                .displayStream(any(), eq(TABLE), isNull(), eq(cmd.getCommandSpec()));
+
+        int actual = resourceService.list(
+                Collections.singletonList(apiResource),
+                "namespace",
+                "*",
+                Map.of(),
+                TABLE,
+                ListOptions.builder().cacheTtl(Duration.ofSeconds(30)).build(),
+                cmd.getCommandSpec());
+
+        assertEquals(0, actual);
+        assertEquals(List.of(resource), displayed);
+        verify(namespacedClient, never()).list(any(), any(), any(), any());
+        verify(namespacedClient, never()).stream(any(), any(), any(), any());
+        verify(resourceCacheService, never()).write(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldListApiResourceAndCacheItWhenNotCached() {
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        Resource resource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.topic").build())
+                .spec(Map.of())
+                .build();
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+
+        when(resourceCacheService.read("namespace", "Topic", "*", Map.of(), Duration.ofSeconds(30)))
+                .thenReturn(Optional.empty());
+        when(namespacedClient.list(any(), any(), any(), any())).thenReturn(List.of(resource));
+
+        int actual = resourceService.list(
+                Collections.singletonList(apiResource),
+                "namespace",
+                "*",
+                Map.of(),
+                TABLE,
+                ListOptions.builder().cacheTtl(Duration.ofSeconds(30)).build(),
+                cmd.getCommandSpec());
+
+        assertEquals(0, actual);
+        verify(resourceCacheService).write("namespace", "Topic", "*", Map.of(), List.of(resource));
+        verify(formatService).displayStream(any(), eq(TABLE), isNull(), eq(cmd.getCommandSpec()));
+        verify(namespacedClient, never()).stream(any(), any(), any(), any());
     }
 
     @Test
@@ -142,13 +273,193 @@ class ResourceServiceTest {
 
         CommandLine cmd = new CommandLine(new Kafkactl());
 
-        when(nonNamespacedClient.list(any(), any(), any())).thenReturn(Collections.singletonList(resource));
+        when(nonNamespacedClient.stream(any(), any(), any())).thenReturn(Publishers.just(resource));
+
+        List<Resource> displayed = new ArrayList<>();
+        doAnswer(invocation -> {
+                    invocation.<Iterator<Resource>>getArgument(0).forEachRemaining(displayed::add);
+                    return null;
+                })
+                .when(formatService)
+                .displayStream(any(), eq(TABLE), isNull(), eq(cmd.getCommandSpec()));
 
         int actual = resourceService.list(
                 Collections.singletonList(apiResource), "namespace", "*", Map.of(), TABLE, cmd.getCommandSpec());
 
         assertEquals(0, actual);
-        verify(formatService).displayList("Topic", Collections.singletonList(resource), TABLE, cmd.getCommandSpec());
+        assertEquals(List.of(resource), displayed);
+    }
+
+    @Test
+    void shouldListApiResourceSortedAndLimited() {
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        Resource small = topic("small", "3");
+        Resource large = topic("large", "12");
+        Resource medium = topic("medium", "6");
+        Resource unknown = Resource.builder()
+                .kind("Topic")
+                .metadata(Resource.Metadata.builder().name("unknown").build())
+                .spec(Map.of())
+                .build();
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+
+        when(namespacedClient.stream(any(), any(), any(), any()))
+                .thenReturn(publisherOf(List.of(small, unknown, large, medium)));
+
+        List<Resource> displayed = new ArrayList<>();
+        doAnswer(invocation -> {
+                    invocation.<Iterator<Resource>>getArgument(0).forEachRemaining(displayed::add);
+                    return null;
+                })
+                .when(formatService)
+                .displayStream(any(), eq(TABLE), isNull(), eq(cmd.getCommandSpec()));
+
+        int actual = resourceService.list(
+                List.of(apiResource),
+                "namespace",
+                "*",
+                Map.of(),
+                TABLE,
+                ListOptions.builder()
+                        .sortBy("/spec/partitions")
+                        .descending(true)
+                        .limit(2)
+                        .build(),
+                cmd.getCommandSpec());
+
+        assertEquals(0, actual);
+        assertEquals(List.of(large, medium), displayed);
+
+        displayed.clear();
+        resourceService.list(
+                List.of(apiResource),
+                "namespace",
+                "*",
+                Map.of(),
+                TABLE,
+                ListOptions.builder().sortBy("/spec/partitions").build(),
+                cmd.getCommandSpec());
+
+        assertEquals(List.of(small, medium, large, unknown), displayed);
+    }
+
+    @Test
+    void shouldNotListApiResourceWhenNoResourceMatchesSelector() {
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+
+        when(namespacedClient.stream(any(), any(), any(), any()))
+                .thenReturn(publisherOf(List.of(topic("small", "3"), topic("large", "12"))));
+
+        ListOptions options = ListOptions.builder()
+                .selector(LabelSelector.parse("env=dev"))
+                .build();
+        int actual = resourceService.list(
+                List.of(apiResource), "namespace", "*", Map.of(), TABLE, options, cmd.getCommandSpec());
+
+        assertEquals(0, actual);
+        verify(formatService).displayNoResource("Topic", options, cmd.getCommandSpec());
+        verify(formatService, never()).displayStream(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldListApiResourceMatchingFieldSelector() {
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        Resource small = topic("small", "3");
+        Resource medium = topic("medium", "6");
+        Resource large = topic("large", "12");
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+
+        when(namespacedClient.stream(any(), any(), any(), any()))
+                .thenReturn(publisherOf(List.of(small, medium, large)));
+
+        List<Resource> displayed = new ArrayList<>();
+        doAnswer(invocation -> {
+                    invocation.<Iterator<Resource>>getArgument(0).forEachRemaining(displayed::add);
+                    return null;
+                })
+                .when(formatService)
+                .displayStream(any(), eq(TABLE), isNull(), eq(cmd.getCommandSpec()));
+
+        ListOptions options = ListOptions.builder()
+                .fieldSelector(FieldSelector.parse("/spec/partitions>=6,/metadata/name!=large"))
+                .build();
+        int actual = resourceService.list(
+                List.of(apiResource), "namespace", "*", Map.of(), TABLE, options, cmd.getCommandSpec());
+
+        assertEquals(0, actual);
+        assertEquals(List.of(medium), displayed);
+    }
+
+    @Test
+    void shouldListApiResourceProjectedOnCustomColumns() {
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        String body = "[{\"apiVersion\":\"v1\",\"kind\":\"Topic\",\"metadata\":{\"name\":\"prefix.topic\","
+                + "\"namespace\":\"namespace\",\"creationTimestamp\":\"2024-01-01T00:00:00.000Z\"},"
+                + "\"spec\":{\"partitions\":3,\"configs\":{\"retention.ms\":\"60000\"}},\"status\":{\"x\":[1,2]}}]";
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        when(streamClient.streamBytes(any(), any(), any(), any()))
+                .thenReturn(publisherOf(List.of(
+                        Arrays.copyOfRange(bytes, 0, 40), Arrays.copyOfRange(bytes, 40, bytes.length))));
+
+        List<String> columns = List.of("TOPIC:/metadata/name", "PARTITIONS:/spec/partitions");
+        List<Resource> displayed = new ArrayList<>();
+        doAnswer(invocation -> {
+                    invocation.<Iterator<Resource>>getArgument(0).forEachRemaining(displayed::add);
+                    return null;
+                })
+                .when(formatService)
+                .displayStream(any(), eq(TABLE), eq(columns), eq(cmd.getCommandSpec()));
+
+        int actual = resourceService.list(
+                List.of(apiResource),
+                "namespace",
+                "*",
+                Map.of(),
+                TABLE,
+                ListOptions.builder().columns(columns).build(),
+                cmd.getCommandSpec());
+
+        assertEquals(0, actual);
+        assertEquals(1, displayed.size());
+        assertEquals("Topic", displayed.getFirst().getKind());
+        assertEquals("prefix.topic", displayed.getFirst().getMetadata().getName());
+        assertNull(displayed.getFirst().getMetadata().getCreationTimestamp());
+        assertEquals(Map.of("partitions", 3), displayed.getFirst().getSpec());
+        assertNull(displayed.getFirst().getStatus());
+        verify(namespacedClient, never()).stream(any(), any(), any(), any());
     }
 
     @Test
@@ -165,7 +476,7 @@ class ResourceServiceTest {
                 .synchronizable(true)
                 .build();
 
-        when(namespacedClient.list(any(), any(), any(), any())).thenReturn(Collections.emptyList());
+        when(namespacedClient.stream(any(), any(), any(), any())).thenReturn(Publishers.empty());
 
         int actual = resourceService.list(
                 Collections.singletonList(apiResource), "namespace", "*", Map.of(), TABLE, cmd.getCommandSpec());
@@ -173,7 +484,7 @@ class ResourceServiceTest {
         assertEquals(0, actual);
 
         verify(formatService).displayNoResource(List.of(apiResource), Map.of(), "*", cmd.getCommandSpec());
-        verify(formatService, never()).displayList(any(), any(), any(), any());
+        verify(formatService, never()).displayStream(any(), any(), any(), any());
     }
 
     @Test
@@ -191,7 +502,7 @@ class ResourceServiceTest {
         cmd.setErr(new PrintWriter(sw));
 
         HttpClientResponseException exception = new HttpClientResponseException("error", HttpResponse.serverError());
-        when(namespacedClient.list(any(), any(), any(), any())).thenThrow(exception);
+        when(namespacedClient.stream(any(), any(), any(), any())).thenThrow(exception);
 
         int actual = resourceService.list(
                 Collections.singletonList(apiResource), "namespace", "*", Map.of(), TABLE, cmd.getCommandSpec());
@@ -200,6 +511,31 @@ class ResourceServiceTest {
         verify(formatService).displayError(exception, cmd.getCommandSpec());
     }
 
+    @Test
+    void shouldNotListApiResourceWhenStreamSignalsHttpClientResponseException() {
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setErr(new PrintWriter(sw));
+
+        HttpClientResponseException exception = new HttpClientResponseException("error", HttpResponse.serverError());
+        when(namespacedClient.stream(any(), any(), any(), any())).thenReturn(Publishers.just(exception));
+
+        int actual = resourceService.list(
+                Collections.singletonList(apiResource), "namespace", "*", Map.of(), TABLE, cmd.getCommandSpec());
+
+        assertEquals(1, actual);
+        verify(formatService).displayError(exception, cmd.getCommandSpec());
+        verify(formatService, never()).displayStream(any(), any(), any(), any());
+    }
+
     @Test
     void shouldListApiResourceWhenMultipleResourceKinds() {
         ApiResource apiResourceOne = ApiResource.builder()
@@ -242,8 +578,9 @@ class ResourceServiceTest {
         StringWriter sw = new StringWriter();
         cmd.setErr(new PrintWriter(sw));
 
-        when(namespacedClient.list(any(), any(), any(), any()))
-                .thenReturn(Collections.singletonList(topicResource))
+        when(namespacedClient.list(any(), eq("topics"), any(), any()))
+                .thenReturn(Collections.singletonList(topicResource));
+        when(namespacedClient.list(any(), eq("connectors"), any(), any()))
                 .thenReturn(Collections.singletonList(connectorResource));
 
         int actual = resourceService.list(
@@ -251,9 +588,14 @@ class ResourceServiceTest {
 
         assertEquals(0, actual);
         verify(formatService)
-                .displayList("Topic", Collections.singletonList(topicResource), TABLE, cmd.getCommandSpec());
+                .displayList("Topic", Collections.singletonList(topicResource), TABLE, null, cmd.getCommandSpec());
         verify(formatService)
-                .displayList("Connector", Collections.singletonList(connectorResource), TABLE, cmd.getCommandSpec());
+                .displayList(
+                        "Connector",
+                        Collections.singletonList(connectorResource),
+                        TABLE,
+                        null,
+                        cmd.getCommandSpec());
     }
 
     @Test
@@ -286,7 +628,7 @@ class ResourceServiceTest {
                 List.of(apiResourceOne, apiResourceTwo), "namespace", "*", Map.of(), TABLE, cmd.getCommandSpec());
 
         assertEquals(0, actual);
-        verify(formatService, never()).displayList(any(), any(), any(), any());
+        verify(formatService, never()).displayList(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -322,19 +664,78 @@ class ResourceServiceTest {
         cmd.setErr(new PrintWriter(sw));
 
         HttpClientResponseException exception = new HttpClientResponseException("error", HttpResponse.serverError());
-        when(namespacedClient.list(any(), any(), any(), any()))
-                .thenReturn(Collections.singletonList(topicResource))
-                .thenThrow(exception);
+        when(namespacedClient.list(any(), eq("topics"), any(), any()))
+                .thenReturn(Collections.singletonList(topicResource));
+        when(namespacedClient.list(any(), eq("connectors"), any(), any())).thenThrow(exception);
 
         int actual = resourceService.list(
                 List.of(apiResourceOne, apiResourceTwo), "namespace", "*", Map.of(), TABLE, cmd.getCommandSpec());
 
         assertEquals(1, actual);
         verify(formatService)
-                .displayList("Topic", Collections.singletonList(topicResource), TABLE, cmd.getCommandSpec());
+                .displayList("Topic", Collections.singletonList(topicResource), TABLE, null, cmd.getCommandSpec());
         verify(formatService).displayError(exception, "Connector", "*", cmd.getCommandSpec());
     }
 
+    @Test
+    void shouldListMultipleApiResourcesInCatalogOrder() {
+        ApiResource apiResourceOne = ApiResource.builder()
+                .kind("Connector")
+                .namespaced(true)
+                .synchronizable(true)
+                .path("connectors")
+                .names(List.of("connects", "connect", "co"))
+                .build();
+
+        ApiResource apiResourceTwo = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        Resource connectorResource = Resource.builder()
+                .kind("Connector")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.connector").build())
+                .spec(Map.of())
+                .build();
+
+        Resource topicResource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.topic").build())
+                .spec(Map.of())
+                .build();
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        StringWriter sw = new StringWriter();
+        cmd.setErr(new PrintWriter(sw));
+
+        when(namespacedClient.list(any(), eq("connectors"), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return Collections.singletonList(connectorResource);
+        });
+        when(namespacedClient.list(any(), eq("topics"), any(), any()))
+                .thenReturn(Collections.singletonList(topicResource));
+
+        int actual = resourceService.list(
+                List.of(apiResourceOne, apiResourceTwo), "namespace", "*", Map.of(), TABLE, cmd.getCommandSpec());
+
+        assertEquals(0, actual);
+        InOrder inOrder = inOrder(formatService);
+        inOrder.verify(formatService)
+                .displayList(
+                        "Connector",
+                        Collections.singletonList(connectorResource),
+                        TABLE,
+                        null,
+                        cmd.getCommandSpec());
+        inOrder.verify(formatService)
+                .displayList("Topic", Collections.singletonList(topicResource), TABLE, null, cmd.getCommandSpec());
+    }
+
     @Test
     void shouldNotListApiResourceWhenNoResourceMatchesName() {
         CommandLine cmd = new CommandLine(new Kafkactl());
@@ -349,14 +750,180 @@ class ResourceServiceTest {
                 .synchronizable(true)
                 .build();
 
-        when(namespacedClient.list(any(), any(), any(), any())).thenReturn(List.of());
+        when(namespacedClient.stream(any(), any(), any(), any())).thenReturn(Publishers.empty());
 
         int actual = resourceService.list(
                 List.of(apiResource), "namespace", "*-test", Map.of(), TABLE, cmd.getCommandSpec());
 
         assertEquals(0, actual);
         verify(formatService).displayNoResource(List.of(apiResource), Map.of(), "*-test", cmd.getCommandSpec());
-        verify(formatService, never()).displayList(any(), any(), any(), any());
+        verify(formatService, never()).displayStream(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldListApiResourceInAllNamespaces() {
+        ApiResource namespaceResource = ApiResource.builder()
+                .kind("Namespace")
+                .path("namespaces")
+                .names(List.of("namespaces", "namespace", "ns"))
+                .namespaced(false)
+                .build();
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        Resource first = topic("first", "3");
+        Resource third = topic("third", "6");
+        third.getMetadata().setNamespace("ns3");
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        HttpClientResponseException exception =
+                new HttpClientResponseException("error", HttpResponse.status(HttpStatus.FORBIDDEN));
+
+        when(apiResourcesService.getResourceDefinitionByKind("Namespace")).thenReturn(Optional.of(namespaceResource));
+        when(nonNamespacedClient.list(any(), eq("namespaces"), any()))
+                .thenReturn(List.of(namespace("ns1"), namespace("ns2"), namespace("ns3")));
+        when(namespacedClient.list(eq("ns1"), eq("topics"), eq("*"), any())).thenReturn(List.of(first));
+        when(namespacedClient.list(eq("ns2"), eq("topics"), eq("*"), any())).thenThrow(exception);
+        when(namespacedClient.list(eq("ns3"), eq("topics"), eq("*"), any())).thenReturn(List.of(third));
+        when(formatService.tableFormats("Topic", null)).thenReturn(List.of("TOPIC:/metadata/name"));
+
+        int actual =
+                resourceService.listAllNamespaces(apiResource, "*", TABLE, ListOptions.none(), cmd.getCommandSpec());
+
+        assertEquals(1, actual);
+        assertEquals("ns1", first.getMetadata().getNamespace());
+        verify(formatService).displayError(exception, "Topic", "*", "ns2", cmd.getCommandSpec());
+        verify(formatService)
+                .displayList(
+                        "Topic",
+                        List.of(first, third),
+                        TABLE,
+                        List.of("NAMESPACE:/metadata/namespace", "TOPIC:/metadata/name"),
+                        cmd.getCommandSpec());
+    }
+
+    @Test
+    void shouldNotListApiResourceInAllNamespacesWhenNamespacesForbidden() {
+        ApiResource namespaceResource = ApiResource.builder()
+                .kind("Namespace")
+                .path("namespaces")
+                .names(List.of("namespaces", "namespace", "ns"))
+                .namespaced(false)
+                .build();
+
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        HttpClientResponseException exception =
+                new HttpClientResponseException("error", HttpResponse.status(HttpStatus.FORBIDDEN));
+
+        when(apiResourcesService.getResourceDefinitionByKind("Namespace")).thenReturn(Optional.of(namespaceResource));
+        when(nonNamespacedClient.list(any(), eq("namespaces"), any())).thenThrow(exception);
+
+        int actual =
+                resourceService.listAllNamespaces(apiResource, "*", TABLE, ListOptions.none(), cmd.getCommandSpec());
+
+        assertEquals(1, actual);
+        verify(formatService).displayError(exception, "Namespace", "*", cmd.getCommandSpec());
+        verify(namespacedClient, never()).list(any(), any(), any(), any());
+        verify(formatService, never()).displayList(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldWatchApiResourceAndDisplayChanges() {
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        Resource first = topic("first", "3");
+        Resource second = topic("second", "3");
+        Resource resizedFirst = topic("first", "6");
+        Resource third = topic("third", "3");
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        HttpClientResponseException exception = new HttpClientResponseException("error", HttpResponse.serverError());
+
+        when(namespacedClient.listIfChanged(any(), any(), any(), any(), any()))
+                .thenReturn(
+                        HttpResponse.ok(List.of(first, second)).header(HttpHeaders.ETAG, "v1"),
+                        HttpResponse.notModified(),
+                        HttpResponse.ok(List.of(resizedFirst, third)).header(HttpHeaders.ETAG, "v2"))
+                .thenThrow(exception);
+
+        int actual = resourceService.watch(
+                apiResource,
+                "namespace",
+                "*",
+                Map.of(),
+                TABLE,
+                ListOptions.none(),
+                Duration.ZERO,
+                cmd.getCommandSpec());
+
+        assertEquals(1, actual);
+        verify(formatService).displayList("Topic", List.of(first, second), TABLE, null, cmd.getCommandSpec());
+        verify(formatService)
+                .displayEvents(
+                        "Topic",
+                        List.of(
+                                new WatchEvent(WatchEvent.Type.MODIFIED, resizedFirst),
+                                new WatchEvent(WatchEvent.Type.ADDED, third),
+                                new WatchEvent(WatchEvent.Type.DELETED, second)),
+                        TABLE,
+                        null,
+                        cmd.getCommandSpec());
+        verify(formatService).displayError(exception, cmd.getCommandSpec());
+        verify(namespacedClient).listIfChanged("namespace", "topics", "*", null, null);
+        verify(namespacedClient, times(2)).listIfChanged("namespace", "topics", "*", null, "v1");
+        verify(namespacedClient).listIfChanged("namespace", "topics", "*", null, "v2");
+    }
+
+    @Test
+    void shouldWatchApiResourceAndDisplayNoResource() {
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        CommandLine cmd = new CommandLine(new Kafkactl());
+        HttpClientResponseException exception = new HttpClientResponseException("error", HttpResponse.serverError());
+
+        when(namespacedClient.listIfChanged(any(), any(), any(), any(), any()))
+                .thenReturn(HttpResponse.ok(List.of()))
+                .thenThrow(exception);
+
+        int actual = resourceService.watch(
+                apiResource,
+                "namespace",
+                "*",
+                Map.of(),
+                TABLE,
+                ListOptions.none(),
+                Duration.ZERO,
+                cmd.getCommandSpec());
+
+        assertEquals(1, actual);
+        verify(formatService).displayNoResource(List.of(apiResource), Map.of(), "*", cmd.getCommandSpec());
+        verify(formatService, never()).displayEvents(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -373,14 +940,14 @@ class ResourceServiceTest {
                 .synchronizable(true)
                 .build();
 
-        when(namespacedClient.list(any(), any(), any(), any())).thenReturn(List.of());
+        when(namespacedClient.stream(any(), any(), any(), any())).thenReturn(Publishers.empty());
 
         int actual =
                 resourceService.list(List.of(apiResource), "namespace", "*", Map.of(), TABLE, cmd.getCommandSpec());
 
         assertEquals(0, actual);
         verify(formatService).displayNoResource(List.of(apiResource), Map.of(), "*", cmd.getCommandSpec());
-        verify(formatService, never()).displayList(any(), any(), any(), any());
+        verify(formatService, never()).displayStream(any(), any(), any(), any());
     }
 
     @Test
@@ -399,13 +966,13 @@ class ResourceServiceTest {
 
         Map<String, String> search = Map.of("param", "value");
 
-        when(namespacedClient.list(any(), any(), any(), any())).thenReturn(List.of());
+        when(namespacedClient.stream(any(), any(), any(), any())).thenReturn(Publishers.empty());
 
         int actual = resourceService.list(List.of(apiResource), "namespace", "*", search, TABLE, cmd.getCommandSpec());
 
         assertEquals(0, actual);
         verify(formatService).displayNoResource(List.of(apiResource), search, "*", cmd.getCommandSpec());
-        verify(formatService, never()).displayList(any(), any(), any(), any());
+        verify(formatService, never()).displayStream(any(), any(), any(), any());
     }
 
     @Test
@@ -422,12 +989,12 @@ class ResourceServiceTest {
                 .synchronizable(true)
                 .build();
 
-        when(namespacedClient.list(any(), any(), any(), any())).thenReturn(List.of());
+        when(namespacedClient.stream(any(), any(), any(), any())).thenReturn(Publishers.empty());
 
         int actual = resourceService.list(List.of(apiResource), "namespace", "*", null, TABLE, cmd.getCommandSpec());
 
         assertEquals(0, actual);
-        verify(formatService, never()).displayList(any(), any(), any(), any());
+        verify(formatService, never()).displayStream(any(), any(), any(), any());
     }
 
     @Test
@@ -457,6 +1024,137 @@ class ResourceServiceTest {
         assertEquals(topicResource, actual);
     }
 
+    @Test
+    void shouldListResourcesByName() {
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        Resource topicResource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.topic").build())
+                .spec(Map.of())
+                .build();
+
+        Resource otherTopicResource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.otherTopic").build())
+                .spec(Map.of())
+                .build();
+
+        when(namespacedClient.list("namespace", "topics", "*", null))
+                .thenReturn(List.of(topicResource, otherTopicResource));
+
+        Map<String, Resource> actual = resourceService.listResourcesByName(apiResource, "namespace");
+
+        assertEquals(Map.of("prefix.topic", topicResource, "prefix.otherTopic", otherTopicResource), actual);
+    }
+
+    @Test
+    void shouldCompareDesiredAndLiveResources() {
+        Resource desired = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.topic").build())
+                .spec(Map.of("partitions", 3, "configs", Map.of("cleanup.policy", "delete")))
+                .build();
+
+        Resource sameLive = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .namespace("namespace")
+                        .labels(Map.of())
+                        .creationTimestamp(Date.from(Instant.parse("2000-01-01T01:00:00.00Z")))
+                        .build())
+                .spec(Map.of("configs", Map.of("cleanup.policy", "delete"), "partitions", 3))
+                .build();
+
+        Resource otherSpecLive = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name("prefix.topic").build())
+                .spec(Map.of("partitions", 3, "configs", Map.of("cleanup.policy", "compact")))
+                .build();
+
+        Resource otherLabelsLive = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .labels(Map.of("team", "a"))
+                        .build())
+                .spec(Map.of("partitions", 3, "configs", Map.of("cleanup.policy", "delete")))
+                .build();
+
+        assertTrue(ResourceService.isUnchanged(desired, sameLive));
+        assertFalse(ResourceService.isUnchanged(desired, otherSpecLive));
+        assertFalse(ResourceService.isUnchanged(desired, otherLabelsLive));
+        assertFalse(ResourceService.isUnchanged(desired, null));
+    }
+
+    @Test
+    void shouldReplayRequestWhenAuthenticationRenewed() {
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        Resource topicResource = Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder()
+                        .name("prefix.topic")
+                        .creationTimestamp(Date.from(Instant.parse("2000-01-01T01:00:00.00Z")))
+                        .build())
+                .spec(Map.of())
+                .build();
+
+        when(loginService.getAuthorization()).thenReturn("Bearer token").thenReturn("Bearer newToken");
+        when(loginService.renewAuthentication("Bearer token")).thenReturn(true);
+        when(namespacedClient.get("namespace", "topics", "resourceName", "Bearer token"))
+                .thenThrow(new HttpClientResponseException("error", HttpResponse.unauthorized()));
+        when(namespacedClient.get("namespace", "topics", "resourceName", "Bearer newToken"))
+                .thenReturn(HttpResponse.ok(topicResource));
+
+        Resource actual = resourceService.getSingleResourceWithType(apiResource, "namespace", "resourceName", false);
+
+        assertEquals(topicResource, actual);
+    }
+
+    @Test
+    void shouldNotReplayRequestWhenAuthenticationNotRenewed() {
+        ApiResource apiResource = ApiResource.builder()
+                .kind("Topic")
+                .path("topics")
+                .names(List.of("topics", "topic", "to"))
+                .namespaced(true)
+                .synchronizable(true)
+                .build();
+
+        HttpClientResponseException exception = new HttpClientResponseException("error", HttpResponse.unauthorized());
+        when(loginService.getAuthorization()).thenReturn("Bearer token");
+        when(loginService.renewAuthentication("Bearer token")).thenReturn(false);
+        when(namespacedClient.get(any(), any(), any(), any())).thenThrow(exception);
+
+        HttpClientResponseException actual = assertThrows(
+                HttpClientResponseException.class,
+                () -> resourceService.getSingleResourceWithType(apiResource, "namespace", "resourceName", false));
+
+        assertEquals(exception, actual);
+        verify(namespacedClient, times(1)).get(any(), any(), any(), any());
+    }
+
     @Test
     void shouldGetSingleNonNamespacedResourceWithType() {
         ApiResource apiResource = ApiResource.builder()
@@ -635,6 +1333,7 @@ class ResourceServiceTest {
         assertEquals(HttpStatus.OK, actual.getStatus());
         assertEquals(topicResource, actual.body());
         assertTrue(sw.toString().contains("Topic \"prefix.topic\" created."));
+        verify(resourceCacheService).invalidate("namespace", "Topic");
     }
 
     @Test
@@ -816,6 +1515,7 @@ class ResourceServiceTest {
 
         assertTrue(actual);
         assertTrue(sw.toString().contains("Topic \"name\" deleted."));
+        verify(resourceCacheService).invalidate("namespace", "Topic");
     }
 
     @Test
@@ -1461,7 +2161,12 @@ class ResourceServiceTest {
 
         assertEquals(0, actual);
         verify(formatService)
-                .displayList("ConsumerGroup", Collections.singletonList(groupResource), TABLE, cmd.getCommandSpec());
+                .displayList(
+                        "ConsumerGroup",
+                        Collections.singletonList(groupResource),
+                        TABLE,
+                        null,
+                        cmd.getCommandSpec());
     }
 
     @Test
@@ -1484,7 +2189,12 @@ class ResourceServiceTest {
 
         assertEquals(0, actual);
         verify(formatService)
-                .displayList("ConsumerGroup", Collections.singletonList(groupResource), TABLE, cmd.getCommandSpec());
+                .displayList(
+                        "ConsumerGroup",
+                        Collections.singletonList(groupResource),
+                        TABLE,
+                        null,
+                        cmd.getCommandSpec());
     }
 
     @Test
@@ -1574,6 +2284,7 @@ class ResourceServiceTest {
 
         assertTrue(actual.isPresent());
         assertEquals(changeConnectorStateResource, actual.get());
+        verify(resourceCacheService).invalidate("namespace", CONNECTOR);
     }
 
     @Test
@@ -1866,4 +2577,45 @@ class ResourceServiceTest {
 
         assertEquals("Could not find YAML or YML files in topic.yml directory.", actual.getMessage());
     }
+
+    private Resource namespace(String name) {
+        return Resource.builder()
+                .kind("Namespace")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name(name).build())
+                .spec(Map.of())
+                .build();
+    }
+
+    private Resource topic(String name, String partitions) {
+        return Resource.builder()
+                .kind("Topic")
+                .apiVersion("v1")
+                .metadata(Resource.Metadata.builder().name(name).build())
+                .spec(Map.of("partitions", partitions))
+                .build();
+    }
+
+    private static <T> Publisher<T> publisherOf(List<T> items) {
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+            private int index;
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+                for (long i = 0; i < n && index < items.size() && !done; i++) {
+                    subscriber.onNext(items.get(index++));
+                }
+                if (index == items.size() && !done) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        });
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class JsonProjectionTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void shouldReadProjectedValuesOnly() throws IOException {
+        JsonProjection projection = new JsonProjection(List.of("/metadata/name", "/spec/configs", "/spec/hosts/1"));
+        JsonParser parser = MAPPER.createParser("{\"metadata\":{\"name\":\"topic\",\"labels\":{\"env\":\"dev\"}},"
+                + "\"spec\":{\"partitions\":3,\"configs\":{\"retention.ms\":\"60000\"},\"hosts\":[\"a\",\"b\",\"c\"]},"
+                + "\"status\":{\"phase\":\"Success\"}}");
+        parser.nextToken();
+
+        Map<String, Object> spec =
+                Map.of("configs", Map.of("retention.ms", "60000"), "hosts", Arrays.asList(null, "b", null));
+        assertEquals(Map.of("metadata", Map.of("name", "topic"), "spec", spec), projection.read(parser));
+    }
+
+    @Test
+    void shouldReadEscapedPointers() throws IOException {
+        JsonProjection projection = new JsonProjection(List.of("/spec/a~1b"));
+        JsonParser parser = MAPPER.createParser("{\"spec\":{\"a/b\":1,\"c\":2}}");
+        parser.nextToken();
+
+        assertEquals(Map.of("spec", Map.of("a/b", 1)), projection.read(parser));
+    }
+
+    @Test
+    void shouldReadArrayElementsOneByOne() {
+        JsonProjection projection = new JsonProjection(List.of("/name"));
+        byte[] bytes = "[{\"name\":\"a\",\"size\":1},{\"name\":\"b\",\"size\":2}]".getBytes(StandardCharsets.UTF_8);
+
+        CloseableIterator<Map> elements = projection.readArray(new ByteArrayInputStream(bytes), MAPPER, Map.class);
+
+        assertTrue(elements.hasNext());
+        assertEquals(Map.of("name", "a"), elements.next());
+        assertEquals(Map.of("name", "b"), elements.next());
+        assertFalse(elements.hasNext());
+        elements.close();
+    }
+
+    @Test
+    void shouldReadEmptyArray() {
+        JsonProjection projection = new JsonProjection(List.of("/name"));
+
+        CloseableIterator<Map> elements = projection.readArray(
+                new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)), MAPPER, Map.class);
+
+        assertFalse(elements.hasNext());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import picocli.CommandLine;
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Model.OptionSpec;
+import picocli.CommandLine.ParameterException;
+
+class ParallelExecutorTest {
+    @Test
+    void shouldRunSequentiallyWithRealCommandSpec() {
+        CommandLine cmd = new CommandLine(CommandSpec.create());
+        StringWriter sw = new StringWriter();
+        cmd.setOut(new PrintWriter(sw));
+
+        List<Integer> actual = ParallelExecutor.map(List.of(1, 2, 3), 1, cmd.getCommandSpec(), (item, spec) -> {
+            assertEquals(cmd.getCommandSpec(), spec);
+            spec.commandLine().getOut().println("item " + item);
+            return item * 2;
+        });
+
+        assertEquals(List.of(2, 4, 6), actual);
+        assertEquals("item 1" + System.lineSeparator() + "item 2" + System.lineSeparator() + "item 3"
+                + System.lineSeparator(), sw.toString());
+    }
+
+    @Test
+    void shouldRunConcurrentlyAndKeepOutputOrder() {
+        CommandLine cmd = new CommandLine(CommandSpec.create());
+        StringWriter out = new StringWriter();
+        StringWriter err = new StringWriter();
+        cmd.setOut(new PrintWriter(out));
+        cmd.setErr(new PrintWriter(err));
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<Integer> actual =
+                ParallelExecutor.map(List.of(5, 4, 3, 2, 1), 2, cmd.getCommandSpec(), (item, spec) -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(item * 10L);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    spec.commandLine().getOut().println("item " + item);
+                    spec.commandLine().getOut().println("done " + item);
+                    if (item == 3) {
+                        spec.commandLine().getErr().println("error " + item);
+                    }
+                    return item;
+                });
+
+        assertEquals(List.of(5, 4, 3, 2, 1), actual);
+        assertTrue(maxRunning.get() <= 2);
+        assertEquals(
+                String.join(
+                                System.lineSeparator(),
+                                "item 5",
+                                "done 5",
+                                "item 4",
+                                "done 4",
+                                "item 3",
+                                "done 3",
+                                "item 2",
+                                "done 2",
+                                "item 1",
+                                "done 1")
+                        + System.lineSeparator(),
+                out.toString());
+        assertEquals("error 3" + System.lineSeparator(), err.toString());
+    }
+
+    @Test
+    void shouldRethrowTaskException() {
+        CommandLine cmd = new CommandLine(CommandSpec.create());
+        IllegalArgumentException exception = new IllegalArgumentException("error");
+
+        IllegalArgumentException actual = assertThrows(
+                IllegalArgumentException.class,
+                () -> ParallelExecutor.map(List.of(1, 2), 2, cmd.getCommandSpec(), (item, spec) -> {
+                    if (item == 2) {
+                        throw exception;
+                    }
+                    return item;
+                }));
+
+        assertEquals(exception, actual);
+    }
+
+    @Test
+    void shouldRaiseParameterExceptionOfCallingCommand() {
+        CommandLine cmd = new CommandLine(CommandSpec.create()
+                .name("diff")
+                .addOption(OptionSpec.builder("--parallelism").type(int.class).build()));
+        StringWriter out = new StringWriter();
+        cmd.setOut(new PrintWriter(out));
+
+        ParameterException actual = assertThrows(
+                ParameterException.class,
+                () -> ParallelExecutor.map(List.of(1, 2), 2, cmd.getCommandSpec(), (item, spec) -> {
+                    spec.commandLine().getOut().println("item " + item);
+                    if (item == 2) {
+                        throw new ParameterException(spec.commandLine(), "error");
+                    }
+                    return item;
+                }));
+
+        assertEquals("diff", actual.getCommandLine().getCommandName());
+        assertTrue(actual.getCommandLine().getUsageMessage().contains("--parallelism"));
+        assertTrue(out.toString().contains("item 1"));
+    }
+
+    @Test
+    void shouldForkTask() {
+        Supplier<Integer> actual = ParallelExecutor.fork(() -> 42);
+
+        assertEquals(42, actual.get());
+    }
+
+    @Test
+    void shouldRethrowForkedTaskException() {
+        IllegalArgumentException exception = new IllegalArgumentException("error");
+        Supplier<Integer> actual = ParallelExecutor.fork(() -> {
+            throw exception;
+        });
+
+        assertEquals(exception, assertThrows(IllegalArgumentException.class, actual::get));
+    }
+}
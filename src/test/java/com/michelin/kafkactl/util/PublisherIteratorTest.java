@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+class PublisherIteratorTest {
+    @Test
+    void shouldIterateOverPublishedItems() {
+        List<Integer> actual = new ArrayList<>();
+        try (PublisherIterator<Integer> iterator = new PublisherIterator<>(new RangePublisher(10), 3)) {
+            iterator.forEachRemaining(actual::add);
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), actual);
+    }
+
+    @Test
+    void shouldRequestOneItemPerConsumedItem() {
+        RangePublisher publisher = new RangePublisher(10);
+        PublisherIterator<Integer> iterator = new PublisherIterator<>(publisher, 3);
+
+        assertEquals(3, publisher.requested);
+
+        iterator.next();
+        iterator.next();
+
+        assertEquals(5, publisher.requested);
+        assertEquals(5, publisher.emitted);
+    }
+
+    @Test
+    void shouldCancelOnClose() {
+        RangePublisher publisher = new RangePublisher(10);
+        PublisherIterator<Integer> iterator = new PublisherIterator<>(publisher, 3);
+
+        iterator.next();
+        iterator.close();
+
+        assertTrue(publisher.cancelled);
+        assertEquals(4, publisher.emitted);
+    }
+
+    @Test
+    void shouldNotHaveNextWhenEmpty() {
+        PublisherIterator<Integer> iterator = new PublisherIterator<>(new RangePublisher(0), 3);
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void shouldRethrowPublishedError() {
+        IllegalArgumentException error = new IllegalArgumentException("error");
+        Publisher<Integer> publisher = subscriber -> {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(error);
+        };
+
+        PublisherIterator<Integer> iterator = new PublisherIterator<>(publisher, 3);
+
+        assertEquals(error, assertThrows(IllegalArgumentException.class, iterator::hasNext));
+    }
+
+    /** Synchronous publisher of the integers from 0 to the given count, honouring the requested demand. */
+    private static class RangePublisher implements Publisher<Integer> {
+        private final int count;
+        private long requested;
+        private int emitted;
+        private boolean cancelled;
+
+        RangePublisher(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    requested += n;
+                    while (!cancelled && emitted < Math.min(requested, count)) {
+                        subscriber.onNext(emitted++);
+                    }
+                    if (!cancelled && emitted == count) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+}
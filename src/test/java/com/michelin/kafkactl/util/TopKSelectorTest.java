@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TopKSelectorTest {
+    @Test
+    void shouldSelectFirstItemsSorted() {
+        List<Integer> items = List.of(5, 1, 9, 3, 7, 2, 8);
+
+        assertEquals(List.of(1, 2, 3), TopKSelector.select(items.iterator(), Comparator.naturalOrder(), 3));
+        assertEquals(List.of(9, 8), TopKSelector.select(items.iterator(), Comparator.reverseOrder(), 2));
+    }
+
+    @Test
+    void shouldSelectAllItemsWhenFewerThanK() {
+        assertEquals(List.of(1, 2, 3), TopKSelector.select(List.of(3, 1, 2).iterator(), Comparator.naturalOrder(), 10));
+    }
+
+    @Test
+    void shouldSelectNothingWhenKIsZero() {
+        assertEquals(List.of(), TopKSelector.select(List.of(3, 1, 2).iterator(), Comparator.naturalOrder(), 0));
+    }
+
+    @Test
+    void shouldSelectFromLargeIteration() {
+        List<Integer> selected = TopKSelector.select(
+                IntStream.range(0, 100_000).map(i -> (i * 7919) % 100_000).iterator(),
+                Comparator.reverseOrder(),
+                5);
+
+        assertEquals(List.of(99_999, 99_998, 99_997, 99_996, 99_995), selected);
+    }
+}
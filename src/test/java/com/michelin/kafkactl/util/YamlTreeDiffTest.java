@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.kafkactl.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.nodes.Node;
+
+class YamlTreeDiffTest {
+    private final Yaml yaml = new Yaml();
+
+    @Test
+    void shouldFindNoDifference() {
+        Node live = compose("spec:\n  partitions: 3\n  replicationFactor: 1\n");
+        Node merged = compose("spec:\n  replicationFactor: 1\n  partitions: 3\n");
+
+        assertTrue(YamlTreeDiff.diff(live, merged, List.of()).isEmpty());
+    }
+
+    @Test
+    void shouldFindDifferences() {
+        Node live = compose("spec:\n  partitions: 3\n  retention.ms: 1000\n  hosts:\n  - a\n  - b\n  - c\n");
+        Node merged = compose("spec:\n  partitions: 1\n  path/to~x: true\n  hosts:\n  - a\n  - d\n");
+
+        List<String> operations = YamlTreeDiff.diff(live, merged, List.of()).stream()
+                .map(ObjectNode::toString)
+                .toList();
+
+        assertEquals(
+                List.of(
+                        "{\"op\":\"remove\",\"path\":\"/spec/retention.ms\"}",
+                        "{\"op\":\"replace\",\"path\":\"/spec/partitions\",\"value\":1}",
+                        "{\"op\":\"add\",\"path\":\"/spec/path~1to~0x\",\"value\":true}",
+                        "{\"op\":\"replace\",\"path\":\"/spec/hosts/1\",\"value\":\"d\"}",
+                        "{\"op\":\"remove\",\"path\":\"/spec/hosts/2\"}"),
+                operations);
+    }
+
+    @Test
+    void shouldAddWholeDocumentWhenNoLive() {
+        Node merged = compose("spec:\n  partitions: 1\n");
+
+        List<ObjectNode> operations = YamlTreeDiff.diff(null, merged, List.of());
+
+        assertEquals(1, operations.size());
+        assertEquals(
+                "{\"op\":\"add\",\"path\":\"\",\"value\":{\"spec\":{\"partitions\":1}}}",
+                operations.getFirst().toString());
+    }
+
+    @Test
+    void shouldIgnoreNestedAndFlatFields() {
+        Node live = compose("metadata:\n  labels:\n    a: b\nspec:\n  cleanup.policy: compact\n  partitions: 3\n");
+        Node merged = compose("metadata:\n  labels:\n    a: c\nspec:\n  cleanup.policy: delete\n  partitions: 3\n");
+
+        List<ObjectNode> operations =
+                YamlTreeDiff.diff(live, merged, List.of("metadata.labels", "spec.cleanup.policy"));
+
+        assertTrue(operations.isEmpty());
+        assertFalse(serialize(live).contains("labels"));
+        assertFalse(serialize(merged).contains("cleanup.policy"));
+        assertTrue(serialize(merged).contains("partitions: 3"));
+    }
+
+    private Node compose(String content) {
+        return yaml.compose(new StringReader(content));
+    }
+
+    private String serialize(Node node) {
+        StringWriter writer = new StringWriter();
+        yaml.serialize(node, writer);
+        return writer.toString();
+    }
+}